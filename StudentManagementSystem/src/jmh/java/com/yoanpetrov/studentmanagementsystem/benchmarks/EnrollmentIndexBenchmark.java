@@ -0,0 +1,64 @@
+package com.yoanpetrov.studentmanagementsystem.benchmarks;
+
+import com.yoanpetrov.studentmanagementsystem.repositories.EnrollmentRepository;
+import com.yoanpetrov.studentmanagementsystem.services.EnrollmentIndexService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Measures enrolling in and leaving a course, and membership checks, at different numbers of enrollments per user.
+ * Courses no longer hold their users, so adding and removing an enrollment in memory
+ * is now an update of the enrollment index.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnrollmentIndexBenchmark {
+
+    private static final long USER_ID = 1L;
+
+    @Param({"1", "10", "100", "1000"})
+    private int enrollments;
+
+    private EnrollmentIndexService enrollmentIndex;
+    private long newCourseId;
+
+    @Setup
+    public void setup() {
+        List<Long> courseIds = LongStream.rangeClosed(1, enrollments).boxed().toList();
+        EnrollmentRepository repository = (EnrollmentRepository) Proxy.newProxyInstance(
+            EnrollmentRepository.class.getClassLoader(),
+            new Class<?>[]{EnrollmentRepository.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("findCourseIdsByUserId")) {
+                    return courseIds;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+        enrollmentIndex = new EnrollmentIndexService(repository);
+        ReflectionTestUtils.setField(enrollmentIndex, "maximumSize", 1000L);
+        ReflectionTestUtils.invokeMethod(enrollmentIndex, "init");
+        enrollmentIndex.isEnrolled(1L, USER_ID); // loads the user's course ids
+        newCourseId = enrollments + 1L;
+    }
+
+    @Benchmark
+    public boolean isEnrolled() {
+        return enrollmentIndex.isEnrolled(enrollments / 2 + 1, USER_ID);
+    }
+
+    @Benchmark
+    public boolean enrollAndUnenroll() {
+        enrollmentIndex.enrolled(newCourseId, List.of(USER_ID));
+        enrollmentIndex.unenrolled(newCourseId, USER_ID);
+        return enrollmentIndex.isEnrolled(newCourseId, USER_ID);
+    }
+}
@@ -0,0 +1,69 @@
+package com.yoanpetrov.studentmanagementsystem.benchmarks;
+
+import com.yoanpetrov.studentmanagementsystem.entities.UserAccount;
+import com.yoanpetrov.studentmanagementsystem.security.AccountPrincipal;
+import com.yoanpetrov.studentmanagementsystem.security.Role;
+import com.yoanpetrov.studentmanagementsystem.services.JwtService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures token generation and the two paths of token reading:
+ * a token seen before, served from the claims cache, and a fresh one that has to be verified.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtServiceBenchmark {
+
+    private static final String SECRET_KEY = "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970";
+
+    private JwtService jwtService;
+    private AccountPrincipal principal;
+    private String cachedToken;
+
+    @Setup
+    public void setup() {
+        jwtService = new JwtService();
+        ReflectionTestUtils.setField(jwtService, "secretKey", SECRET_KEY);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", TimeUnit.DAYS.toMillis(1));
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", TimeUnit.DAYS.toMillis(7));
+        ReflectionTestUtils.setField(jwtService, "claimsCacheSize", 10_000L);
+        ReflectionTestUtils.invokeMethod(jwtService, "init");
+        principal = AccountPrincipal.of(UserAccount.builder()
+            .accountId(1L)
+            .username("benchmark")
+            .password("hash")
+            .role(Role.TEACHER)
+            .build());
+        cachedToken = jwtService.generateToken(principal);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(principal);
+    }
+
+    @Benchmark
+    public String extractUsernameCached() {
+        return jwtService.extractUsername(cachedToken);
+    }
+
+    @Benchmark
+    public boolean validateTokenCached() {
+        return jwtService.validateToken(cachedToken, principal);
+    }
+
+    /**
+     * Generates a new token each time, so that it misses the claims cache and is verified.
+     */
+    @Benchmark
+    public boolean generateAndValidateToken() {
+        return jwtService.validateToken(jwtService.generateToken(principal), principal);
+    }
+}
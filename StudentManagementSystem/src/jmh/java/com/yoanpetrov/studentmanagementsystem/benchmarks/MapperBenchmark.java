@@ -0,0 +1,49 @@
+package com.yoanpetrov.studentmanagementsystem.benchmarks;
+
+import com.yoanpetrov.studentmanagementsystem.dto.CourseDto;
+import com.yoanpetrov.studentmanagementsystem.dto.UserAccountDto;
+import com.yoanpetrov.studentmanagementsystem.dto.UserDto;
+import com.yoanpetrov.studentmanagementsystem.entities.Course;
+import com.yoanpetrov.studentmanagementsystem.entities.User;
+import com.yoanpetrov.studentmanagementsystem.entities.UserAccount;
+import com.yoanpetrov.studentmanagementsystem.mappers.CourseMapper;
+import com.yoanpetrov.studentmanagementsystem.mappers.CourseMapperImpl;
+import com.yoanpetrov.studentmanagementsystem.mappers.UserAccountMapper;
+import com.yoanpetrov.studentmanagementsystem.mappers.UserAccountMapperImpl;
+import com.yoanpetrov.studentmanagementsystem.mappers.UserMapper;
+import com.yoanpetrov.studentmanagementsystem.mappers.UserMapperImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final CourseMapper courseMapper = new CourseMapperImpl();
+    private final UserMapper userMapper = new UserMapperImpl();
+    private final UserAccountMapper userAccountMapper = new UserAccountMapperImpl();
+
+    private final CourseDto courseDto = new CourseDto("Benchmark", "Benchmark course", 60);
+    private final UserDto userDto = new UserDto("Bench", "Mark", "bench@mark.com");
+    private final UserAccountDto userAccountDto = new UserAccountDto("benchmark", "password");
+
+    @Benchmark
+    public Course convertCourse() {
+        return courseMapper.convertDtoToEntity(courseDto);
+    }
+
+    @Benchmark
+    public User convertUser() {
+        return userMapper.convertDtoToEntity(userDto);
+    }
+
+    @Benchmark
+    public UserAccount convertUserAccount() {
+        return userAccountMapper.convertDtoToEntity(userAccountDto);
+    }
+}
@@ -0,0 +1,91 @@
+package com.yoanpetrov.studentmanagementsystem.benchmarks;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.yoanpetrov.studentmanagementsystem.dto.CourseView;
+import com.yoanpetrov.studentmanagementsystem.dto.CursorPage;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compares the serialization time of a page of courses in each response format against JSON,
+ * with and without gzip. The payload size of each format is printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PayloadFormatBenchmark {
+
+    @Param({"50", "500"})
+    private int size;
+
+    @Param({"json", "cbor", "smile", "protobuf"})
+    private String format;
+
+    private ObjectWriter writer;
+    private CursorPage<CourseView> page;
+
+    @Setup
+    public void setup() throws IOException {
+        List<CourseView> courses = IntStream.range(0, size)
+            .mapToObj(i -> new CourseView(
+                (long) i,
+                "Course " + i,
+                "Description of course " + i,
+                120,
+                i % 120,
+                0))
+            .toList();
+        page = new CursorPage<>(courses, "c3RhcnQ.c2lnbmF0dXJl");
+        writer = createWriter();
+
+        byte[] payload = serialize();
+        System.out.printf("%n%s, %d courses: %d bytes, %d bytes gzipped%n",
+            format, size, payload.length, gzip(payload).length);
+    }
+
+    private ObjectWriter createWriter() throws IOException {
+        return switch (format) {
+            case "json" -> new ObjectMapper().findAndRegisterModules().writer();
+            case "cbor" -> new CBORMapper().findAndRegisterModules().writer();
+            case "smile" -> new SmileMapper().findAndRegisterModules().writer();
+            case "protobuf" -> {
+                ProtobufMapper mapper = new ProtobufMapper();
+                JavaType type = mapper.getTypeFactory().constructParametricType(CursorPage.class, CourseView.class);
+                yield mapper.writerFor(type).with(mapper.generateSchemaFor(type));
+            }
+            default -> throw new IllegalArgumentException("Unsupported format: " + format);
+        };
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeGzipped() throws IOException {
+        return gzip(writer.writeValueAsBytes(page));
+    }
+
+    private static byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(payload.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(payload);
+        }
+        return bytes.toByteArray();
+    }
+}
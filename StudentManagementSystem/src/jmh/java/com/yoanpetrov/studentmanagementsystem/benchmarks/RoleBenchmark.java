@@ -0,0 +1,25 @@
+package com.yoanpetrov.studentmanagementsystem.benchmarks;
+
+import com.yoanpetrov.studentmanagementsystem.security.Role;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RoleBenchmark {
+
+    @Param({"ADMIN", "TEACHER", "STUDENT"})
+    private Role role;
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return role.getAuthorities();
+    }
+}
@@ -0,0 +1,62 @@
+package com.yoanpetrov.studentmanagementsystem.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yoanpetrov.studentmanagementsystem.entities.Course;
+import com.yoanpetrov.studentmanagementsystem.entities.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures the Jackson serialization of the course and user lists returned by the list endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Course> courses;
+    private List<User> users;
+
+    @Setup
+    public void setup() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        courses = IntStream.range(0, size)
+            .mapToObj(i -> Course.builder()
+                .courseId((long) i)
+                .name("Course " + i)
+                .description("Description of course " + i)
+                .maxCapacity(120)
+                .numberOfStudents(i % 120)
+                .build())
+            .toList();
+        users = IntStream.range(0, size)
+            .mapToObj(i -> User.builder()
+                .userId((long) i)
+                .firstName("First" + i)
+                .lastName("Last" + i)
+                .email("user" + i + "@example.com")
+                .build())
+            .toList();
+    }
+
+    @Benchmark
+    public byte[] serializeCourses() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(courses);
+    }
+
+    @Benchmark
+    public byte[] serializeUsers() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(users);
+    }
+}
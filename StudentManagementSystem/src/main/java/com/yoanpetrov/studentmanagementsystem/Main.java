@@ -1,6 +1,5 @@
 package com.yoanpetrov.studentmanagementsystem;
 
-import org.apache.log4j.BasicConfigurator;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -11,10 +10,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class Main {
 
     /**
-     * Configures the loggers and runs the application.
+     * Runs the application. The loggers are configured by {@code log4j2.xml}.
      */
     public static void main(String[] args) {
-        BasicConfigurator.configure();
         SpringApplication.run(Main.class, args);
     }
 }
@@ -1,11 +1,21 @@
 package com.yoanpetrov.studentmanagementsystem.configurations;
 
+import com.yoanpetrov.studentmanagementsystem.security.BoundedPasswordEncoder;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 /**
  * Configures the beans that are needed for the app to function.
  */
@@ -13,8 +23,76 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class ApplicationConfiguration {
 
+    private static final Logger LOG = LoggerFactory.getLogger(ApplicationConfiguration.class);
+
+    private static final int MIN_BCRYPT_COST = 10;
+    private static final int MAX_BCRYPT_COST = 16;
+
+    @Value("${application.security.password.bcrypt-cost:0}")
+    private int bcryptCost;
+    @Value("${application.security.password.target-hash-time:250}")
+    private long targetHashTime;
+    @Value("${application.security.password.hashing-threads:0}")
+    private int hashingThreads;
+    @Value("${application.security.password.hashing-queue-capacity:100}")
+    private int hashingQueueCapacity;
+
+    /**
+     * Builds the {@code PasswordEncoder} bean.
+     * Passwords are hashed with BCrypt on a dedicated executor, see {@link #passwordHashingExecutor()}.
+     * The cost is {@code bcryptCost} if set, otherwise the highest cost whose hashing
+     * takes at most {@code targetHashTime} milliseconds on this machine, never lower than the BCrypt default.
+     *
+     * @return the {@code PasswordEncoder} bean.
+     */
     @Bean
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int cost = bcryptCost > 0 ? bcryptCost : calibrateBCryptCost();
+        LOG.info("Using a BCrypt cost of {}", cost);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(cost), passwordHashingExecutor());
+    }
+
+    /**
+     * Builds the executor that passwords are hashed and verified on.
+     * It has a fixed number of threads, one per core by default, and a bounded queue.
+     * Work submitted while the queue is full is rejected.
+     * Not a bean of its own, so that it does not replace the default task executor; it is shut down with the encoder.
+     *
+     * @return the executor.
+     */
+    private ExecutorService passwordHashingExecutor() {
+        int threads = hashingThreads > 0 ? hashingThreads : Runtime.getRuntime().availableProcessors();
+        return new ThreadPoolExecutor(
+            threads, threads,
+            0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(hashingQueueCapacity),
+            new CustomizableThreadFactory("password-hashing-"),
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Finds the highest BCrypt cost whose hashing takes at most {@code targetHashTime} milliseconds.
+     * Each increment of the cost doubles the hashing time, so the next cost is only measured
+     * if it is expected to fit in the target.
+     *
+     * @return the cost.
+     */
+    private int calibrateBCryptCost() {
+        int cost = MIN_BCRYPT_COST;
+        long hashTime = measureHashTime(cost);
+        while (cost < MAX_BCRYPT_COST && hashTime * 2 <= targetHashTime) {
+            cost++;
+            hashTime = measureHashTime(cost);
+        }
+        LOG.debug("Calibrated BCrypt cost {} takes {} ms per hash, target is {} ms", cost, hashTime, targetHashTime);
+        return cost;
+    }
+
+    private static long measureHashTime(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        encoder.encode("calibration"); // warm-up
+        long start = System.nanoTime();
+        encoder.encode("calibration");
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
     }
 }
@@ -0,0 +1,100 @@
+package com.yoanpetrov.studentmanagementsystem.configurations;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configures the Hibernate second-level cache.
+ * Entities and cacheable query results are kept in bounded, in-process Caffeine caches,
+ * accessed by Hibernate through JCache.
+ */
+@Configuration
+public class CacheConfiguration {
+
+    public static final String COURSES_REGION = "courses";
+    public static final String USERS_REGION = "users";
+    public static final String USER_ACCOUNTS_REGION = "user_accounts";
+    public static final String ENROLLMENTS_REGION = "enrollments";
+
+    public static final List<String> ENTITY_REGIONS = List.of(
+        COURSES_REGION,
+        USERS_REGION,
+        USER_ACCOUNTS_REGION,
+        ENROLLMENTS_REGION
+    );
+
+    @Value("${application.cache.maximum-size:10000}")
+    private long maximumSize;
+    @Value("${application.cache.time-to-live:600000}")
+    private long timeToLive;
+    @Value("${application.cache.statistics:true}")
+    private boolean statisticsEnabled;
+
+    /**
+     * Builds the JCache manager holding the cache regions.
+     * Entity and query result regions are bounded in size and expire after {@code timeToLive} milliseconds.
+     * The update timestamps region holds one entry per table and must never expire,
+     * otherwise cached query results could outlive the data they were read from.
+     *
+     * @return the cache manager.
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager entityCacheManager() {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+            .getCacheManager();
+        for (String region : ENTITY_REGIONS) {
+            createCache(cacheManager, region, boundedConfiguration());
+        }
+        createCache(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, boundedConfiguration());
+        createCache(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, statisticsConfiguration());
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager entityCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, entityCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "create-warn");
+            properties.put(AvailableSettings.GENERATE_STATISTICS, statisticsEnabled);
+        };
+    }
+
+    private CaffeineConfiguration<Object, Object> boundedConfiguration() {
+        CaffeineConfiguration<Object, Object> configuration = statisticsConfiguration();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(timeToLive)));
+        return configuration;
+    }
+
+    private CaffeineConfiguration<Object, Object> statisticsConfiguration() {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStatisticsEnabled(statisticsEnabled);
+        return configuration;
+    }
+
+    private static void createCache(
+        CacheManager cacheManager,
+        String name,
+        CaffeineConfiguration<Object, Object> configuration
+    ) {
+        if (cacheManager.getCache(name) == null) {
+            cacheManager.createCache(name, configuration);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.yoanpetrov.studentmanagementsystem.configurations;
+
+import com.yoanpetrov.studentmanagementsystem.converters.JacksonProtobufHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Configures the response formats chosen by the {@code Accept} header, and their compression.
+ * Besides JSON, responses are available as CBOR ({@code application/cbor}) and Smile
+ * ({@code application/x-jackson-smile}), whose converters are registered as soon as their Jackson modules are present,
+ * and as protobuf ({@code application/x-protobuf}).
+ * Responses above a size threshold are gzip-compressed for clients that accept it,
+ * with the defaults in {@code compression.properties}.
+ */
+@Configuration
+@PropertySource("classpath:compression.properties")
+public class ContentNegotiationConfiguration implements WebMvcConfigurer {
+
+    /**
+     * Adds the protobuf converter after all others, so that JSON stays the format of requests accepting any.
+     *
+     * @param converters the configured converters.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new JacksonProtobufHttpMessageConverter());
+    }
+}
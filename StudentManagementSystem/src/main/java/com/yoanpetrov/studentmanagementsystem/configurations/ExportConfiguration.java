@@ -0,0 +1,14 @@
+package com.yoanpetrov.studentmanagementsystem.configurations;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Lets the streamed exports run for longer than the default asynchronous request timeout of the container,
+ * which would cut off the export of a large table after 30 seconds.
+ * The timeout in {@code export.properties} can be overridden with {@code spring.mvc.async.request-timeout}.
+ */
+@Configuration
+@PropertySource("classpath:export.properties")
+public class ExportConfiguration {
+}
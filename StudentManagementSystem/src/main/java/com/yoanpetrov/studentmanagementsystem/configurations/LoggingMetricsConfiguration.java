@@ -0,0 +1,23 @@
+package com.yoanpetrov.studentmanagementsystem.configurations;
+
+import com.yoanpetrov.studentmanagementsystem.logging.DroppingAsyncQueueFullPolicy;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Exposes the health of the asynchronous logging pipeline next to the other metrics.
+ * A growing number of dropped events means that logging cannot keep up and is being throttled.
+ */
+@Configuration
+public class LoggingMetricsConfiguration {
+
+    @Bean
+    public MeterBinder droppedLogEventsMetrics() {
+        return registry -> FunctionCounter.builder("logging.events.dropped", DroppingAsyncQueueFullPolicy.class,
+                policy -> DroppingAsyncQueueFullPolicy.getDroppedEventCount())
+            .description("Log events dropped because the ring buffer of the asynchronous loggers was full")
+            .register(registry);
+    }
+}
@@ -0,0 +1,51 @@
+package com.yoanpetrov.studentmanagementsystem.configurations;
+
+import io.micrometer.common.KeyValue;
+import io.micrometer.common.KeyValues;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+import org.springframework.http.server.observation.ServerRequestObservationConvention;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Configures the metrics exposed in the Prometheus format on the management port.
+ * Every request is timed into a latency histogram, tagged with its route, status and controller method,
+ * next to the in-flight requests, the connection pool and the Hibernate statistics.
+ * The defaults are in {@code metrics.properties}.
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfiguration {
+
+    private static final String HANDLER_KEY = "handler";
+    private static final String NO_HANDLER = "none";
+
+    /**
+     * Adds the controller method that handled each request to its metrics,
+     * so that routes mapped by several methods (such as different HTTP methods) can be told apart.
+     *
+     * @return the observation convention of the server requests.
+     */
+    @Bean
+    public ServerRequestObservationConvention handlerTaggingObservationConvention() {
+        return new DefaultServerRequestObservationConvention() {
+            @Override
+            public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+                return super.getLowCardinalityKeyValues(context).and(handler(context));
+            }
+        };
+    }
+
+    private static KeyValue handler(ServerRequestObservationContext context) {
+        Object handler = context.getCarrier().getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return KeyValue.of(HANDLER_KEY,
+                handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName());
+        }
+        return KeyValue.of(HANDLER_KEY, NO_HANDLER);
+    }
+}
@@ -0,0 +1,36 @@
+package com.yoanpetrov.studentmanagementsystem.configurations;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configures how Hibernate writes to and reads from the database.
+ * Inserts and updates of the same entity are grouped and sent as JDBC batches.
+ * Associations that a query does not fetch itself are loaded for up to {@code batchFetchSize} entities at once,
+ * so a path without an explicit fetch plan costs a query per batch instead of a query per entity.
+ */
+@Configuration
+public class PersistenceConfiguration {
+
+    @Value("${application.jpa.batch-size:50}")
+    private int batchSize;
+    @Value("${application.jpa.batch-fetch-size:50}")
+    private int batchFetchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer batchFetchingCustomizer() {
+        return properties -> properties.put(AvailableSettings.DEFAULT_BATCH_FETCH_SIZE, batchFetchSize);
+    }
+}
@@ -0,0 +1,102 @@
+package com.yoanpetrov.studentmanagementsystem.configurations;
+
+import com.yoanpetrov.studentmanagementsystem.timing.RequestPhase;
+import com.yoanpetrov.studentmanagementsystem.timing.RequestTimingTaskDecorator;
+import com.yoanpetrov.studentmanagementsystem.timing.RequestTimings;
+import com.yoanpetrov.studentmanagementsystem.timing.StatementCountingInspector;
+import com.yoanpetrov.studentmanagementsystem.timing.TimedHttpMessageConverter;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+/**
+ * Times the repository calls and the serialization of the response body of each request,
+ * and counts its SQL statements, see {@code RequestTimingFilter}.
+ */
+@Configuration
+public class RequestTimingConfiguration {
+
+    /**
+     * Wraps every message converter in one that times the serialization, whatever its format.
+     * Done once all {@code WebMvcConfigurer}s have added their converters, so that none of them is missed.
+     * The exception handlers share the list of converters, so their response bodies are timed too.
+     *
+     * @return the post processor that wraps the converters.
+     */
+    @Bean
+    public static BeanPostProcessor messageConverterTimingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof RequestMappingHandlerAdapter adapter) {
+                    adapter.getMessageConverters().replaceAll(TimedHttpMessageConverter::timed);
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Times the tasks a request submits to the application task executor as part of the request,
+     * e.g. writing a streamed body or running an {@code @Async} method.
+     * Spring Boot applies it to its executor, and so does {@code VirtualThreadConfiguration}.
+     *
+     * @return the task decorator.
+     */
+    @Bean
+    public TaskDecorator requestTimingTaskDecorator() {
+        return new RequestTimingTaskDecorator();
+    }
+
+    @Bean
+    public StatementCountingInspector statementCountingInspector() {
+        return new StatementCountingInspector();
+    }
+
+    /**
+     * Counts the SQL statements run by Hibernate towards the request they are run for.
+     *
+     * @param statementCountingInspector the inspector counting the statements.
+     * @return the customizer that registers the statement inspector.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer statementCountingCustomizer(
+        StatementCountingInspector statementCountingInspector
+    ) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCountingInspector);
+    }
+
+    /**
+     * Adds an interceptor timing every call as the database phase to each Spring Data repository.
+     *
+     * @return the post processor that customizes the repository factories.
+     */
+    @Bean
+    public static BeanPostProcessor repositoryTimingPostProcessor() {
+        MethodInterceptor timingInterceptor = invocation -> {
+            long start = RequestTimings.start(RequestPhase.DATABASE);
+            try {
+                return invocation.proceed();
+            } finally {
+                RequestTimings.stop(RequestPhase.DATABASE, start);
+            }
+        };
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                        (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(timingInterceptor)));
+                }
+                return bean;
+            }
+        };
+    }
+}
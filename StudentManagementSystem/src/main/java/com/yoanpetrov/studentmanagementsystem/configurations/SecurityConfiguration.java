@@ -5,12 +5,11 @@ import com.yoanpetrov.studentmanagementsystem.security.HttpEntryPoint;
 import com.yoanpetrov.studentmanagementsystem.security.JwtRequestFilter;
 import com.yoanpetrov.studentmanagementsystem.services.UserAccountService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -34,6 +33,14 @@ public class SecurityConfiguration {
         "/api/v1/login/**"
     };
 
+    /**
+     * The actuator endpoints that are open to scrapers and probes, which carry no token.
+     */
+    private static final String[] PUBLIC_ACTUATOR_ENDPOINTS = {
+        "health",
+        "prometheus"
+    };
+
     private final JwtRequestFilter jwtRequestFilter;
     private final UserAccountService userAccountService;
     private final PasswordEncoder passwordEncoder;
@@ -42,8 +49,9 @@ public class SecurityConfiguration {
 
     /**
      * Builds the {@code SecurityFilterChain} bean.
-     * The filter authorizes all requests to the register and login endpoints.
-     * All other endpoints have to be authenticated.
+     * The filter authorizes all requests to the register and login endpoints,
+     * and to the health and prometheus actuator endpoints, which are only served on the management port.
+     * All other endpoints, including any other actuator endpoint that gets exposed, have to be authenticated.
      * All created sessions are stateless, as the app uses JWT.
      *
      * @param http the http security builder.
@@ -57,6 +65,8 @@ public class SecurityConfiguration {
                 c
                     .requestMatchers(WHITELISTED_ENDPOINTS)
                     .permitAll()
+                    .requestMatchers(EndpointRequest.to(PUBLIC_ACTUATOR_ENDPOINTS))
+                    .permitAll()
                     .anyRequest().authenticated())
             .csrf(AbstractHttpConfigurer::disable)
             .sessionManagement(c -> c.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
@@ -71,7 +81,8 @@ public class SecurityConfiguration {
 
     /**
      * Builds the {@code AuthenticationProvider} bean.
-     * The provider is a {@code DaoAuthenticationProvider} and uses a {@code UserAccountDetailsService}
+     * The provider is a {@code DaoAuthenticationProvider} and uses a {@code UserAccountDetailsService}.
+     * Password hashes made with a lower cost than the current one are upgraded on login.
      *
      * @return the {@code AuthenticationProvider} bean.
      */
@@ -80,13 +91,7 @@ public class SecurityConfiguration {
         var authProvider = new DaoAuthenticationProvider();
         authProvider.setPasswordEncoder(passwordEncoder);
         authProvider.setUserDetailsService(userAccountService);
+        authProvider.setUserDetailsPasswordService(userAccountService);
         return authProvider;
     }
-
-    @Bean
-    public AuthenticationManager authenticationManager(
-        AuthenticationConfiguration config
-    ) throws Exception {
-        return config.getAuthenticationManager();
-    }
 }
@@ -0,0 +1,115 @@
+package com.yoanpetrov.studentmanagementsystem.configurations;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs Tomcat request handling and {@code @Async} work on virtual threads,
+ * enabled by {@code application.threads.virtual.enabled}. Needs Java 21 or later at runtime.
+ * A virtual thread is cheap to block, so the request concurrency is no longer limited by a thread pool
+ * but by the JDBC connection pool, which is sized for it and fails fast when exhausted.
+ * Password hashing stays on its own platform threads, see {@code ApplicationConfiguration}.
+ */
+@Configuration
+@EnableAsync
+@ConditionalOnProperty(name = "application.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfiguration {
+
+    private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadConfiguration.class);
+
+    /**
+     * Builds the executor that runs each task on a new virtual thread.
+     * Pinning of virtual threads to their carriers, e.g. blocking inside a {@code synchronized} block,
+     * is traced to the standard output if {@code traceVirtualThreadPinning} is set.
+     *
+     * @param traceVirtualThreadPinning whether to trace pinned virtual threads.
+     * @return the executor.
+     * @throws IllegalStateException if the runtime does not support virtual threads.
+     */
+    @Bean(destroyMethod = "close")
+    public ExecutorService virtualThreadExecutor(
+        @Value("${application.threads.virtual.trace-pinning:false}") boolean traceVirtualThreadPinning
+    ) {
+        if (traceVirtualThreadPinning) {
+            // Read when the first virtual thread is created
+            System.setProperty("jdk.tracePinnedThreads", "short");
+        }
+        LOG.info("Running request handling and async work on virtual threads");
+        try {
+            // Looked up reflectively, as the app is compiled for a release without virtual threads
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                "Virtual threads need Java 21 or later, running on " + Runtime.version(), e);
+        }
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(
+        ExecutorService virtualThreadExecutor
+    ) {
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadExecutor);
+    }
+
+    /**
+     * Builds the executor of {@code @Async} methods and streamed responses, replacing Spring Boot's default thread pool.
+     * Applies the task decorator, as Spring Boot would to its own executor.
+     *
+     * @param virtualThreadExecutor the virtual thread executor.
+     * @param taskDecorator         the task decorator, if there is one.
+     * @return the executor.
+     */
+    @Bean(name = {"applicationTaskExecutor", "taskExecutor"})
+    public AsyncTaskExecutor applicationTaskExecutor(
+        ExecutorService virtualThreadExecutor,
+        ObjectProvider<TaskDecorator> taskDecorator
+    ) {
+        TaskExecutorAdapter executor = new TaskExecutorAdapter(virtualThreadExecutor);
+        taskDecorator.ifUnique(executor::setTaskDecorator);
+        return executor;
+    }
+
+    /**
+     * Sizes the JDBC connection pool for virtual threads.
+     * With a thread per request, every request can wait for a connection at the same time,
+     * so the wait is bounded by {@code connectionTimeout} milliseconds instead of Hikari's default 30 seconds.
+     *
+     * @param maximumPoolSize   the maximum number of connections.
+     * @param connectionTimeout the longest wait for a connection, in milliseconds.
+     * @return the post processor that configures the pool.
+     */
+    @Bean
+    public static BeanPostProcessor virtualThreadConnectionPoolSizer(
+        @Value("${application.threads.virtual.jdbc-pool-size:50}") int maximumPoolSize,
+        @Value("${application.threads.virtual.jdbc-connection-timeout:2000}") long connectionTimeout
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(@NonNull Object bean, @NonNull String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    LOG.info("Sizing the JDBC pool for virtual threads: {} connections, {} ms timeout",
+                        maximumPoolSize, connectionTimeout);
+                    dataSource.setMaximumPoolSize(maximumPoolSize);
+                    dataSource.setConnectionTimeout(connectionTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+}
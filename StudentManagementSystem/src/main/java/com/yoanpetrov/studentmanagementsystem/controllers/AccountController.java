@@ -1,8 +1,13 @@
 package com.yoanpetrov.studentmanagementsystem.controllers;
 
+import com.yoanpetrov.studentmanagementsystem.dto.AccountImportResultDto;
+import com.yoanpetrov.studentmanagementsystem.dto.CursorPage;
+import com.yoanpetrov.studentmanagementsystem.dto.UserAccountView;
 import com.yoanpetrov.studentmanagementsystem.entities.User;
 import com.yoanpetrov.studentmanagementsystem.entities.UserAccount;
 import com.yoanpetrov.studentmanagementsystem.mappers.UserAccountMapper;
+import com.yoanpetrov.studentmanagementsystem.pagination.KeysetSort;
+import com.yoanpetrov.studentmanagementsystem.services.AccountImportService;
 import com.yoanpetrov.studentmanagementsystem.services.UserAccountService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -13,6 +18,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -25,22 +32,43 @@ public class AccountController {
 
     private final UserAccountService userAccountService;
     private final UserAccountMapper userAccountMapper;
+    private final AccountImportService accountImportService;
 
     /**
-     * Gets all user accounts.
+     * Gets a page of user accounts, or all user accounts if the unpaged listing is explicitly asked for.
      *
+     * @param sort    the sort of the accounts, either id or name (username).
+     * @param cursor  the cursor returned with the previous page, omitted for the first page.
+     * @param size    the page size, omitted for the default one.
+     * @param unpaged whether to return all accounts in a single list.
      * @return 204 if there are no existing accounts,
-     * 200 and the account list if there is at least 1 account.
+     * 200 and the page (or the whole account list if unpaged) if there is at least 1 account,
+     * 400 if the cursor or the page size are invalid.
      */
     @GetMapping
-    public ResponseEntity<?> getAllAccounts() {
-        LOG.debug("Getting all user accounts");
-        List<UserAccount> accounts = userAccountService.getAllUserAccounts();
-        if (accounts.isEmpty()) {
+    public ResponseEntity<?> getAllAccounts(
+        @RequestParam(defaultValue = "id") String sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size,
+        @RequestParam(defaultValue = "false") boolean unpaged
+    ) {
+        if (unpaged) {
+            LOG.debug("Getting all user accounts");
+            List<UserAccountView> accounts = userAccountService.getAllUserAccounts();
+            if (accounts.isEmpty()) {
+                LOG.debug("No existing user accounts, returning 204");
+                return new ResponseEntity<>("No existing user accounts", HttpStatus.NO_CONTENT);
+            }
+            return new ResponseEntity<>(accounts, HttpStatus.OK);
+        }
+        LOG.debug("Getting a page of user accounts");
+        CursorPage<UserAccountView> page = userAccountService.getUserAccountsPage(
+            KeysetSort.fromParameter(sort), cursor, size);
+        if (page.getItems().isEmpty()) {
             LOG.debug("No existing user accounts, returning 204");
             return new ResponseEntity<>("No existing user accounts", HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<>(accounts, HttpStatus.OK);
+        return new ResponseEntity<>(page, HttpStatus.OK);
     }
 
     /**
@@ -51,9 +79,9 @@ public class AccountController {
      * 200 and the account if it was found.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<UserAccount> getAccountById(@PathVariable Long id) {
+    public ResponseEntity<UserAccountView> getAccountById(@PathVariable Long id) {
         LOG.debug("Getting account with id {}", id);
-        UserAccount account = userAccountService.getUserAccountById(id);
+        UserAccountView account = userAccountService.getUserAccountById(id);
         return new ResponseEntity<>(account, HttpStatus.OK);
     }
 
@@ -70,6 +98,22 @@ public class AccountController {
         return new ResponseEntity<>(createdAccount, HttpStatus.CREATED);
     }
 
+    /**
+     * Imports accounts, each with its user, from a CSV file.
+     * Each line holds a username, password, role, first name, last name and email, and an optional header line
+     * may name these columns. An empty role makes the account a student's.
+     *
+     * @param csv the CSV file, in UTF-8.
+     * @return 200 with the number of imported accounts and the rejected lines, with the reason for each.
+     * @throws IOException if reading the file fails.
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<AccountImportResultDto> importAccounts(InputStream csv) throws IOException {
+        LOG.debug("Importing user accounts");
+        AccountImportResultDto result = accountImportService.importAccounts(csv);
+        return new ResponseEntity<>(result, HttpStatus.OK);
+    }
+
     /**
      * Sets a {@code UserAccount}'s associated {@code User}.
      *
@@ -44,7 +44,7 @@ public class AuthenticationController {
      * Authenticates the given user.
      *
      * @param userDto the credentials of the user's account.
-     * @return 200 and a JWT token if the authentication was successful,
+     * @return 200 and a JWT token and refresh token if the authentication was successful,
      * 404 if the user account doesn't exist,
      * 401 if the credentials weren't correct.
      */
@@ -0,0 +1,53 @@
+package com.yoanpetrov.studentmanagementsystem.controllers;
+
+import com.yoanpetrov.studentmanagementsystem.dto.CacheStatisticsDto;
+import com.yoanpetrov.studentmanagementsystem.services.CacheService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Rest controller for the second-level cache endpoints.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/caches")
+@PreAuthorize("hasRole('ADMIN')")
+public class CacheController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheController.class);
+
+    private final CacheService cacheService;
+
+    /**
+     * Gets the statistics of all cache regions.
+     *
+     * @return 200 and the statistics of each region.
+     */
+    @GetMapping
+    public ResponseEntity<List<CacheStatisticsDto>> getCacheStatistics() {
+        LOG.debug("Getting cache statistics");
+        return new ResponseEntity<>(cacheService.getStatistics(), HttpStatus.OK);
+    }
+
+    /**
+     * Evicts all cache regions.
+     *
+     * @return 200 and a message.
+     */
+    @DeleteMapping
+    public ResponseEntity<String> evictCaches() {
+        LOG.debug("Evicting all caches");
+        cacheService.evictAll();
+        return new ResponseEntity<>("All caches have been evicted successfully", HttpStatus.OK);
+    }
+}
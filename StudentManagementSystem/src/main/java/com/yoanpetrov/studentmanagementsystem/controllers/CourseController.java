@@ -1,18 +1,26 @@
 package com.yoanpetrov.studentmanagementsystem.controllers;
 
+import com.yoanpetrov.studentmanagementsystem.dto.BulkEnrollmentDto;
+import com.yoanpetrov.studentmanagementsystem.dto.CourseView;
+import com.yoanpetrov.studentmanagementsystem.dto.CursorPage;
+import com.yoanpetrov.studentmanagementsystem.dto.EnrollmentResultDto;
+import com.yoanpetrov.studentmanagementsystem.dto.UserView;
 import com.yoanpetrov.studentmanagementsystem.entities.Course;
 import com.yoanpetrov.studentmanagementsystem.entities.User;
 import com.yoanpetrov.studentmanagementsystem.mappers.CourseMapper;
 import com.yoanpetrov.studentmanagementsystem.dto.CourseDto;
+import com.yoanpetrov.studentmanagementsystem.pagination.KeysetSort;
 import com.yoanpetrov.studentmanagementsystem.services.CourseService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.*;
 
@@ -30,55 +38,121 @@ public class CourseController {
     private final CourseMapper courseMapper;
 
     /**
-     * Gets all courses.
+     * Gets a page of courses, or all courses if an admin explicitly asks for the unpaged listing.
+     * The listing has an ETag that changes whenever any course changes,
+     * so clients polling it with {@code If-None-Match} get 304 until then, without any course being loaded.
+     * The ETag also covers the page and the accepted representation, as each of them is a different response.
      *
+     * @param sort    the sort of the courses, either id or name.
+     * @param cursor  the cursor returned with the previous page, omitted for the first page.
+     * @param size    the page size, omitted for the default one.
+     * @param unpaged whether to return all courses in a single list, allowed for admins only.
+     * @param request the request, checked for {@code If-None-Match}.
      * @return 204 if there are no existing courses,
-     * 200 and the course list if there is at least 1 course.
+     * 200 and the page (or the whole course list if unpaged) if there is at least 1 course,
+     * 304 if no course changed since the ETag in {@code If-None-Match},
+     * 400 if the cursor or the page size are invalid.
      */
     @GetMapping
-    public ResponseEntity<?> getAllCourses() {
-        LOG.debug("Getting all courses");
-        List<Course> courses = new ArrayList<>(courseService.getAllCourses());
-        if (courses.isEmpty()) {
+    @PreAuthorize("!#unpaged or hasRole('ADMIN')")
+    public ResponseEntity<?> getAllCourses(
+        @RequestParam(defaultValue = "id") String sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size,
+        @RequestParam(defaultValue = "false") boolean unpaged,
+        WebRequest request
+    ) {
+        KeysetSort keysetSort = KeysetSort.fromParameter(sort);
+        String page = unpaged ? "unpaged" : keysetSort + ";" + size + ";" + cursor;
+        String variant = page + ";" + Objects.toString(request.getHeader(HttpHeaders.ACCEPT), "");
+        if (request.checkNotModified(courseService.getCoursesETag(variant))) {
+            LOG.debug("No course changed, returning 304");
+            return new ResponseEntity<>(HttpStatus.NOT_MODIFIED);
+        }
+        if (unpaged) {
+            LOG.debug("Getting all courses");
+            List<CourseView> courses = new ArrayList<>(courseService.getAllCourses());
+            if (courses.isEmpty()) {
+                LOG.debug("No existing courses, returning 204");
+                return new ResponseEntity<>("No existing courses", HttpStatus.NO_CONTENT);
+            }
+            return new ResponseEntity<>(courses, HttpStatus.OK);
+        }
+        LOG.debug("Getting a page of courses");
+        CursorPage<CourseView> coursesPage = courseService.getCoursesPage(keysetSort, cursor, size);
+        if (coursesPage.getItems().isEmpty()) {
             LOG.debug("No existing courses, returning 204");
             return new ResponseEntity<>("No existing courses", HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<>(courses, HttpStatus.OK);
+        return new ResponseEntity<>(coursesPage, HttpStatus.OK);
     }
 
     /**
-     * Gets a course by its id.
+     * Gets a course by its id, along with its ETag.
+     * If the ETag in {@code If-None-Match} is still current, only the version of the course is read.
      *
-     * @param id the id of the course.
+     * @param id      the id of the course.
+     * @param request the request, checked for {@code If-None-Match}.
      * @return 404 if the course was not found,
+     * 304 if the course did not change since the ETag in {@code If-None-Match},
      * 200 and the course if it was found.
      */
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER') or @authenticationCheckerService.isUserEnrolledInCourse(#id)")
-    public ResponseEntity<Course> getCourseById(@PathVariable Long id) {
+    public ResponseEntity<CourseView> getCourseById(@PathVariable Long id, WebRequest request) {
         LOG.debug("Getting course with id {}", id);
-        Course course = courseService.getCourseById(id);
-        return new ResponseEntity<>(course, HttpStatus.OK);
+        if (request.checkNotModified(courseService.getCourseETag(id))) {
+            LOG.debug("Course with id {} not modified, returning 304", id);
+            return new ResponseEntity<>(HttpStatus.NOT_MODIFIED);
+        }
+        CourseView course = courseService.getCourseById(id);
+        return ResponseEntity.ok()
+            .eTag(courseService.getCourseETag(course))
+            .body(course);
     }
 
     /**
-     * Gets all the users inside the course with the given id.
+     * Gets a page of the users inside the course with the given id,
+     * or all of them if an admin explicitly asks for the unpaged listing.
      *
-     * @param id the id of the course.
-     * @return 200 and a list of the users if everything is ok,
+     * @param id      the id of the course.
+     * @param sort    the sort of the users, either id or name (last name).
+     * @param cursor  the cursor returned with the previous page, omitted for the first page.
+     * @param size    the page size, omitted for the default one.
+     * @param unpaged whether to return all users in a single list, allowed for admins only.
+     * @return 200 and the page (or the whole user list if unpaged) if everything is ok,
      * 204 if there are no users in the course,
+     * 400 if the cursor or the page size are invalid,
      * 404 if the course was not found.
      */
     @GetMapping("/{id}/users")
-    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER') or @authenticationCheckerService.isUserEnrolledInCourse(#id)")
-    public ResponseEntity<?> getAllCourseUsers(@PathVariable Long id) {
-        LOG.debug("Getting all users in course with id {}", id);
-        List<User> users = courseService.getAllCourseUsers(id);
-        if (users.isEmpty()) {
+    @PreAuthorize("(!#unpaged or hasRole('ADMIN')) " +
+        "and (hasAnyRole('ADMIN', 'TEACHER') or @authenticationCheckerService.isUserEnrolledInCourse(#id))"
+    )
+    public ResponseEntity<?> getAllCourseUsers(
+        @PathVariable Long id,
+        @RequestParam(defaultValue = "id") String sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size,
+        @RequestParam(defaultValue = "false") boolean unpaged
+    ) {
+        if (unpaged) {
+            LOG.debug("Getting all users in course with id {}", id);
+            List<UserView> users = courseService.getAllCourseUsers(id);
+            if (users.isEmpty()) {
+                LOG.debug("No existing users in course, returning 204");
+                return new ResponseEntity<>("No existing users in course", HttpStatus.NO_CONTENT);
+            }
+            return new ResponseEntity<>(users, HttpStatus.OK);
+        }
+        LOG.debug("Getting a page of users in course with id {}", id);
+        CursorPage<UserView> page = courseService.getCourseUsersPage(
+            id, KeysetSort.fromParameter(sort), cursor, size);
+        if (page.getItems().isEmpty()) {
             LOG.debug("No existing users in course, returning 204");
             return new ResponseEntity<>("No existing users in course", HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<>(users, HttpStatus.OK);
+        return new ResponseEntity<>(page, HttpStatus.OK);
     }
 
     /**
@@ -118,6 +192,28 @@ public class CourseController {
         return new ResponseEntity<>(user, HttpStatus.OK);
     }
 
+    /**
+     * Adds multiple users to a course at once.
+     *
+     * @param courseId          the id of the course.
+     * @param bulkEnrollmentDto the ids of the users to be added to the course.
+     * @return 200 with the outcome for each user (added, already enrolled, not found or course full),
+     * 404 if the course was not found.
+     */
+    @PostMapping("/{courseId}/users")
+    @PreAuthorize("hasRole('ADMIN') " +
+        "or (hasRole('TEACHER') and @authenticationCheckerService.isUserEnrolledInCourse(#courseId))"
+    )
+    public ResponseEntity<List<EnrollmentResultDto>> addUsersToCourse(
+        @PathVariable Long courseId,
+        @Valid @RequestBody BulkEnrollmentDto bulkEnrollmentDto
+    ) {
+        LOG.debug("Adding {} users to course with id {}", bulkEnrollmentDto.getUserIds().size(), courseId);
+        List<EnrollmentResultDto> results = courseService.addUsersToCourse(
+            courseId, bulkEnrollmentDto.getUserIds());
+        return new ResponseEntity<>(results, HttpStatus.OK);
+    }
+
     /**
      * Updates the course with the given id with the new course details.
      *
@@ -0,0 +1,70 @@
+package com.yoanpetrov.studentmanagementsystem.controllers;
+
+import com.yoanpetrov.studentmanagementsystem.services.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Rest controller for the export endpoints.
+ * Each endpoint streams a whole table as newline-delimited JSON in a chunked response.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/export")
+@PreAuthorize("hasRole('ADMIN')")
+public class ExportController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExportController.class);
+
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final ExportService exportService;
+
+    /**
+     * Exports all users.
+     *
+     * @return 200 and a stream of the users, one JSON object per line.
+     */
+    @GetMapping("/users")
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        LOG.debug("Exporting all users");
+        return ndjson(exportService::exportUsers);
+    }
+
+    /**
+     * Exports all courses.
+     *
+     * @return 200 and a stream of the courses, one JSON object per line.
+     */
+    @GetMapping("/courses")
+    public ResponseEntity<StreamingResponseBody> exportCourses() {
+        LOG.debug("Exporting all courses");
+        return ndjson(exportService::exportCourses);
+    }
+
+    /**
+     * Exports all enrollments as course id and user id pairs.
+     *
+     * @return 200 and a stream of the enrollments, one JSON object per line.
+     */
+    @GetMapping("/enrollments")
+    public ResponseEntity<StreamingResponseBody> exportEnrollments() {
+        LOG.debug("Exporting all enrollments");
+        return ndjson(exportService::exportEnrollments);
+    }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(StreamingResponseBody body) {
+        return ResponseEntity.status(HttpStatus.OK)
+            .contentType(APPLICATION_NDJSON)
+            .body(body);
+    }
+}
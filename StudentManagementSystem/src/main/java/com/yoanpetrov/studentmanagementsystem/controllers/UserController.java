@@ -1,8 +1,12 @@
 package com.yoanpetrov.studentmanagementsystem.controllers;
 
+import com.yoanpetrov.studentmanagementsystem.dto.CourseView;
+import com.yoanpetrov.studentmanagementsystem.dto.CursorPage;
+import com.yoanpetrov.studentmanagementsystem.dto.UserView;
 import com.yoanpetrov.studentmanagementsystem.entities.Course;
 import com.yoanpetrov.studentmanagementsystem.entities.User;
 import com.yoanpetrov.studentmanagementsystem.mappers.UserMapper;
+import com.yoanpetrov.studentmanagementsystem.pagination.KeysetSort;
 import com.yoanpetrov.studentmanagementsystem.dto.UserDto;
 import com.yoanpetrov.studentmanagementsystem.services.UserService;
 import jakarta.validation.Valid;
@@ -13,6 +17,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -30,54 +35,107 @@ public class UserController {
     private final UserMapper userMapper;
 
     /**
-     * Gets all users.
+     * Gets a page of users, or all users if an admin explicitly asks for the unpaged listing.
      *
+     * @param sort    the sort of the users, either id or name (last name).
+     * @param cursor  the cursor returned with the previous page, omitted for the first page.
+     * @param size    the page size, omitted for the default one.
+     * @param unpaged whether to return all users in a single list, allowed for admins only.
      * @return 204 if there are no existing users,
-     * 200 and the user list if there is at least 1 user.
+     * 200 and the page (or the whole user list if unpaged) if there is at least 1 user,
+     * 400 if the cursor or the page size are invalid.
      */
     @GetMapping
-    public ResponseEntity<?> getAllUsers() {
-        LOG.debug("Getting all users");
-        List<User> users = userService.getAllUsers();
-        if (users.isEmpty()) {
+    @PreAuthorize("!#unpaged or hasRole('ADMIN')")
+    public ResponseEntity<?> getAllUsers(
+        @RequestParam(defaultValue = "id") String sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size,
+        @RequestParam(defaultValue = "false") boolean unpaged
+    ) {
+        if (unpaged) {
+            LOG.debug("Getting all users");
+            List<UserView> users = userService.getAllUsers();
+            if (users.isEmpty()) {
+                LOG.debug("No existing users, returning 204");
+                return new ResponseEntity<>("No existing users", HttpStatus.NO_CONTENT);
+            }
+            return new ResponseEntity<>(users, HttpStatus.OK);
+        }
+        LOG.debug("Getting a page of users");
+        CursorPage<UserView> page = userService.getUsersPage(KeysetSort.fromParameter(sort), cursor, size);
+        if (page.getItems().isEmpty()) {
             LOG.debug("No existing users, returning 204");
             return new ResponseEntity<>("No existing users", HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<>(users, HttpStatus.OK);
+        return new ResponseEntity<>(page, HttpStatus.OK);
     }
 
     /**
-     * Gets a user by its id.
+     * Gets a user by its id, along with its ETag.
+     * If the ETag in {@code If-None-Match} is still current, only the version of the user is read.
      *
-     * @param id the id of the user.
+     * @param id      the id of the user.
+     * @param request the request, checked for {@code If-None-Match}.
      * @return 200 and the user if it was found,
+     * 304 if the user did not change since the ETag in {@code If-None-Match},
      * 404 if the user was not found.
      */
     @GetMapping("/{id}")
-    public ResponseEntity<User> getUserById(@PathVariable Long id) {
+    public ResponseEntity<UserView> getUserById(@PathVariable Long id, WebRequest request) {
         LOG.debug("Getting user with id {}", id);
-        User user = userService.getUserById(id);
-        return new ResponseEntity<>(user, HttpStatus.OK);
+        if (request.checkNotModified(userService.getUserETag(id))) {
+            LOG.debug("User with id {} not modified, returning 304", id);
+            return new ResponseEntity<>(HttpStatus.NOT_MODIFIED);
+        }
+        UserView user = userService.getUserById(id);
+        return ResponseEntity.ok()
+            .eTag(userService.getUserETag(user))
+            .body(user);
     }
 
     /**
-     * Gets all the courses that the user with the given id has enrolled in.
+     * Gets a page of the courses that the user with the given id has enrolled in,
+     * or all of them if an admin explicitly asks for the unpaged listing.
      *
-     * @param id the id of the user.
-     * @return 200 and a list of the courses if everything is ok,
+     * @param id      the id of the user.
+     * @param sort    the sort of the courses, either id or name.
+     * @param cursor  the cursor returned with the previous page, omitted for the first page.
+     * @param size    the page size, omitted for the default one.
+     * @param unpaged whether to return all courses of the user in a single list, allowed for admins only.
+     * @return 200 and the page (or the whole course list if unpaged) if everything is ok,
      * 204 if the user is not enrolled in any courses,
+     * 400 if the cursor or the page size are invalid,
      * 404 if the user was not found.
      */
     @GetMapping("/{id}/courses")
-    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER') or @authenticationCheckerService.doUserIdsMatch(#id)")
-    public ResponseEntity<?> getAllUserCourses(@PathVariable Long id) {
-        LOG.debug("Getting all courses of user with id {}", id);
-        List<Course> courses = userService.getAllUserCourses(id);
-        if (courses.isEmpty()) {
+    @PreAuthorize("(!#unpaged or hasRole('ADMIN')) " +
+        "and (hasAnyRole('ADMIN', 'TEACHER') or @authenticationCheckerService.doUserIdsMatch(#id))"
+    )
+    public ResponseEntity<?> getAllUserCourses(
+        @PathVariable Long id,
+        @RequestParam(defaultValue = "id") String sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size,
+        @RequestParam(defaultValue = "false") boolean unpaged
+    ) {
+        if (unpaged) {
+            LOG.debug("Getting all courses of user with id {}", id);
+            List<CourseView> courses = userService.getAllUserCourses(id);
+            if (courses.isEmpty()) {
+                LOG.debug("No existing courses in user, returning 204");
+                return new ResponseEntity<>("No existing courses", HttpStatus.NO_CONTENT);
+            }
+            return new ResponseEntity<>(courses, HttpStatus.OK);
+        }
+        LOG.debug("Getting a page of courses of user with id {}", id);
+        CursorPage<CourseView> page = userService.getUserCoursesPage(
+            id, KeysetSort.fromParameter(sort), cursor, size);
+        if (page.getItems().isEmpty()) {
             LOG.debug("No existing courses in user, returning 204");
             return new ResponseEntity<>("No existing courses", HttpStatus.NO_CONTENT);
         }
-        return new ResponseEntity<>(courses, HttpStatus.OK);
+        return new ResponseEntity<>(page, HttpStatus.OK);
     }
 
     /**
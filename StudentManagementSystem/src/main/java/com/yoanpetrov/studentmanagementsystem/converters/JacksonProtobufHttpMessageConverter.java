@@ -0,0 +1,102 @@
+package com.yoanpetrov.studentmanagementsystem.converters;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.protobuf.ProtobufMapper;
+import com.fasterxml.jackson.dataformat.protobuf.schema.ProtobufSchema;
+import com.yoanpetrov.studentmanagementsystem.dto.CourseView;
+import com.yoanpetrov.studentmanagementsystem.dto.CursorPage;
+import com.yoanpetrov.studentmanagementsystem.dto.UserAccountView;
+import com.yoanpetrov.studentmanagementsystem.dto.UserView;
+import com.yoanpetrov.studentmanagementsystem.entities.Course;
+import com.yoanpetrov.studentmanagementsystem.entities.User;
+import com.yoanpetrov.studentmanagementsystem.entities.UserAccount;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes courses, users, user accounts, their views and pages of them as protobuf messages.
+ * The message schemas are generated from the classes by Jackson, so there are no {@code .proto} files to keep in sync,
+ * and they are generated once per type. Lists cannot be the root of a protobuf message,
+ * so only the paginated listings are available in this format. Request bodies are not read as protobuf.
+ */
+public class JacksonProtobufHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    public static final MediaType APPLICATION_X_PROTOBUF = new MediaType("application", "x-protobuf");
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "protobuf");
+
+    private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(
+        Course.class,
+        User.class,
+        UserAccount.class,
+        CourseView.class,
+        UserView.class,
+        UserAccountView.class,
+        CursorPage.class
+    );
+
+    private final Map<JavaType, ProtobufSchema> schemas = new ConcurrentHashMap<>();
+
+    public JacksonProtobufHttpMessageConverter() {
+        super(new ProtobufMapper(), APPLICATION_X_PROTOBUF, APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    public boolean canRead(@NonNull Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canRead(@NonNull Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(@NonNull Class<?> clazz, @Nullable MediaType mediaType) {
+        return SUPPORTED_TYPES.contains(clazz) && super.canWrite(clazz, mediaType);
+    }
+
+    /**
+     * Resolves the item type of a page from its items, as the controllers declare their bodies as wildcards.
+     */
+    @Override
+    protected void writeInternal(
+        @NonNull Object object,
+        @Nullable Type type,
+        @NonNull HttpOutputMessage outputMessage
+    ) throws IOException, HttpMessageNotWritableException {
+        if (object instanceof CursorPage<?> page && !page.getItems().isEmpty()) {
+            type = ResolvableType.forClassWithGenerics(CursorPage.class, page.getItems().get(0).getClass()).getType();
+        }
+        super.writeInternal(object, type, outputMessage);
+    }
+
+    @Override
+    protected ObjectWriter customizeWriter(
+        @NonNull ObjectWriter writer,
+        @NonNull JavaType javaType,
+        @Nullable MediaType mediaType
+    ) {
+        return writer.with(schemas.computeIfAbsent(javaType, this::generateSchema));
+    }
+
+    private ProtobufSchema generateSchema(JavaType javaType) {
+        try {
+            return ((ProtobufMapper) getObjectMapper()).generateSchemaFor(javaType);
+        } catch (JsonMappingException e) {
+            throw new HttpMessageNotWritableException("Could not generate the protobuf schema of " + javaType, e);
+        }
+    }
+}
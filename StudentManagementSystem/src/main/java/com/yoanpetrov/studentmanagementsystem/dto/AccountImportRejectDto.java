@@ -0,0 +1,16 @@
+package com.yoanpetrov.studentmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class AccountImportRejectDto {
+
+    private long line;
+    private String reason;
+}
@@ -0,0 +1,21 @@
+package com.yoanpetrov.studentmanagementsystem.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class BulkEnrollmentDto {
+    @NotEmpty(message = "User ids cannot be empty")
+    @Size(max = 1000, message = "Cannot enroll more than 1000 users at once")
+    private List<@NotNull(message = "User ids cannot be null") Long> userIds;
+}
@@ -0,0 +1,23 @@
+package com.yoanpetrov.studentmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class CacheStatisticsDto {
+
+    private String region;
+    private long hitCount;
+    private long missCount;
+    private long putCount;
+    private double hitRatio;
+    /**
+     * The average time spent loading a missing entry, in milliseconds.
+     */
+    private double averageLoadTime;
+}
@@ -0,0 +1,12 @@
+package com.yoanpetrov.studentmanagementsystem.dto;
+
+/**
+ * A summary of the rows of a table that changes whenever any row is inserted, updated or deleted:
+ * updates increment the sum of the versions, inserts and deletes change the count or the highest id.
+ *
+ * @param count      the number of rows.
+ * @param versionSum the sum of the versions of the rows.
+ * @param maxId      the highest id, as ids are never reused.
+ */
+public record CollectionVersion(long count, long versionSum, long maxId) {
+}
@@ -0,0 +1,40 @@
+package com.yoanpetrov.studentmanagementsystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.yoanpetrov.studentmanagementsystem.entities.Course;
+
+/**
+ * The read model of a course. Listings select it column by column, so that they never load a {@code Course} entity.
+ *
+ * @param courseId         the id of the course.
+ * @param name             the name of the course.
+ * @param description      the description of the course.
+ * @param maxCapacity      the maximum number of students in the course.
+ * @param numberOfStudents the number of students enrolled in the course.
+ * @param version          the version of the course, used for its ETag and not serialized.
+ */
+public record CourseView(
+    Long courseId,
+    String name,
+    String description,
+    int maxCapacity,
+    int numberOfStudents,
+    @JsonIgnore long version
+) {
+
+    /**
+     * Copies the given course into a view, so that the entity itself is never serialized.
+     *
+     * @param course the course.
+     * @return the view of the course.
+     */
+    public static CourseView of(Course course) {
+        return new CourseView(
+            course.getCourseId(),
+            course.getName(),
+            course.getDescription(),
+            course.getMaxCapacity(),
+            course.getNumberOfStudents(),
+            course.getVersion());
+    }
+}
@@ -0,0 +1,18 @@
+package com.yoanpetrov.studentmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class CursorPage<T> {
+
+    private List<T> items;
+    private String nextCursor;
+}
@@ -0,0 +1,19 @@
+package com.yoanpetrov.studentmanagementsystem.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class EnrollmentDto {
+
+    private Long courseId;
+    private Long userId;
+    private Instant enrolledAt;
+}
@@ -0,0 +1,12 @@
+package com.yoanpetrov.studentmanagementsystem.dto;
+
+/**
+ * The outcome of enrolling a single user in a course.
+ */
+public enum EnrollmentStatus {
+
+    ADDED,
+    ALREADY_ENROLLED,
+    NOT_FOUND,
+    COURSE_FULL,
+}
@@ -0,0 +1,57 @@
+package com.yoanpetrov.studentmanagementsystem.dto;
+
+import com.yoanpetrov.studentmanagementsystem.entities.UserAccount;
+import com.yoanpetrov.studentmanagementsystem.security.Role;
+
+/**
+ * The read model of a user account and its user. Listings select it with a single join,
+ * so that they never load a {@code UserAccount} or {@code User} entity.
+ *
+ * @param accountId the id of the account.
+ * @param username  the username of the account.
+ * @param password  the password hash of the account.
+ * @param role      the role of the account.
+ * @param user      the user of the account, or null if it has none.
+ */
+public record UserAccountView(
+    long accountId,
+    String username,
+    String password,
+    Role role,
+    UserView user
+) {
+
+    /**
+     * Builds the view from the flat columns of an account left-joined with its user,
+     * as a query cannot construct the nested user view itself.
+     */
+    public UserAccountView(
+        long accountId,
+        String username,
+        String password,
+        Role role,
+        Long userId,
+        String firstName,
+        String lastName,
+        String email,
+        Long userVersion
+    ) {
+        this(accountId, username, password, role,
+            userId == null ? null : new UserView(userId, firstName, lastName, email, userVersion));
+    }
+
+    /**
+     * Copies the given account and its user into a view, so that the entities themselves are never serialized.
+     *
+     * @param account the account.
+     * @return the view of the account.
+     */
+    public static UserAccountView of(UserAccount account) {
+        return new UserAccountView(
+            account.getAccountId(),
+            account.getUsername(),
+            account.getPassword(),
+            account.getRole(),
+            account.getUser() == null ? null : UserView.of(account.getUser()));
+    }
+}
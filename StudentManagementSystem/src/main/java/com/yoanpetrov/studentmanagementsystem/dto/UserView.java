@@ -0,0 +1,37 @@
+package com.yoanpetrov.studentmanagementsystem.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.yoanpetrov.studentmanagementsystem.entities.User;
+
+/**
+ * The read model of a user. Listings select it column by column, so that they never load a {@code User} entity.
+ *
+ * @param userId    the id of the user.
+ * @param firstName the first name of the user.
+ * @param lastName  the last name of the user.
+ * @param email     the email of the user.
+ * @param version   the version of the user, used for its ETag and not serialized.
+ */
+public record UserView(
+    Long userId,
+    String firstName,
+    String lastName,
+    String email,
+    @JsonIgnore long version
+) {
+
+    /**
+     * Copies the given user into a view, so that the entity itself is never serialized.
+     *
+     * @param user the user.
+     * @return the view of the user.
+     */
+    public static UserView of(User user) {
+        return new UserView(
+            user.getUserId(),
+            user.getFirstName(),
+            user.getLastName(),
+            user.getEmail(),
+            user.getVersion());
+    }
+}
@@ -1,16 +1,20 @@
 package com.yoanpetrov.studentmanagementsystem.entities;
 
-import com.yoanpetrov.studentmanagementsystem.exceptions.ResourceConflictException;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.yoanpetrov.studentmanagementsystem.configurations.CacheConfiguration;
 import jakarta.persistence.*;
 import lombok.*;
-
-import java.util.ArrayList;
-import java.util.List;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Generated;
+import org.hibernate.generator.EventType;
 
 /**
  * Represents a course.
- * Each course can have multiple users.
- * A course can have students added to/removed from it.
+ * Each course can have multiple users, enrolled through {@code Enrollment}s,
+ * up to its maximum capacity.
+ * Versioned, so concurrent updates of the same course are detected instead of overwriting each other.
  */
 @Data
 @AllArgsConstructor
@@ -18,6 +22,7 @@ import java.util.List;
 @Builder
 @Entity
 @Table(name = "courses")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfiguration.COURSES_REGION)
 public class Course {
 
     @Id
@@ -27,48 +32,23 @@ public class Course {
     private String description;
     private int maxCapacity;
 
-    @EqualsAndHashCode.Exclude
-    @ToString.Exclude
-    @ManyToMany(cascade = CascadeType.REMOVE)
-    @JoinTable(name = "students_courses_enrollments",
-        joinColumns = @JoinColumn(name = "course_id"),
-        inverseJoinColumns = @JoinColumn(name = "user_id"))
-    private List<User> users = new ArrayList<>();
-
-    /**
-     * Returns the number of students in the users list of the course.
-     */
-    public int getNumberOfStudents() {
-        return users.size();
-    }
-
     /**
-     * Adds a {@code User} to the course.
-     *
-     * @param user the user to be added.
-     * @throws ResourceConflictException if the course is full or if the user already exists in the course.
+     * The number of students enrolled in the course, kept in sync with the enrollments
+     * so that reading it never has to load the users of the course.
+     * It is only changed through atomic update queries, never by writing back a loaded entity,
+     * so concurrent enrollments cannot overwrite each other's seats.
+     * It is read back after every write of the course, so the cached copy never carries a stale count.
      */
-    public void addUser(User user) {
-        if (users.size() == maxCapacity) {
-            throw new ResourceConflictException("The course is full");
-        }
-        if (users.contains(user)) {
-            throw new ResourceConflictException("The user already exists in the course");
-        }
-        users.add(user);
-        user.getCourses().add(this);
-    }
+    @ColumnDefault("0")
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
+    private int numberOfStudents;
 
     /**
-     * Removes a {@code User} from the course.
-     *
-     * @param user the user to be removed.
-     * @throws ResourceConflictException if the user is not present in the course.
+     * Incremented on every change of the course, including its seat count, and used as its ETag.
+     * The seat update queries increment it themselves, as bulk updates bypass the entity.
      */
-    public void removeUser(User user) {
-        if (!users.remove(user)) {
-            throw new ResourceConflictException("The user is not present in the course");
-        }
-        user.getCourses().remove(this);
-    }
+    @Version
+    @ColumnDefault("0")
+    @JsonIgnore
+    private long version;
 }
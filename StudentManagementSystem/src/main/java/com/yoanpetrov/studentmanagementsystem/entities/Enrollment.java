@@ -0,0 +1,82 @@
+package com.yoanpetrov.studentmanagementsystem.entities;
+
+import com.yoanpetrov.studentmanagementsystem.configurations.CacheConfiguration;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * Represents the enrollment of a user in a course.
+ * Enrollments are separate rows keyed by (course_id, user_id), so adding or removing one
+ * is a single INSERT or DELETE, regardless of how many users the course has.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "students_courses_enrollments",
+    indexes = @Index(name = "idx_enrollments_user_course", columnList = "user_id, course_id"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfiguration.ENROLLMENTS_REGION)
+public class Enrollment implements Persistable<EnrollmentId> {
+
+    @EmbeddedId
+    private EnrollmentId id;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @MapsId("courseId")
+    @JoinColumn(name = "course_id")
+    private Course course;
+
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @MapsId("userId")
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Column(nullable = false)
+    private Instant enrolledAt;
+
+    @Transient
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean isNew = true;
+
+    /**
+     * Creates a new enrollment of the given user in the given course, enrolled at the current time.
+     *
+     * @param course the course.
+     * @param user   the user.
+     * @return the new enrollment.
+     */
+    public static Enrollment of(Course course, User user) {
+        Enrollment enrollment = new Enrollment();
+        enrollment.setId(new EnrollmentId(course.getCourseId(), user.getUserId()));
+        enrollment.setCourse(course);
+        enrollment.setUser(user);
+        enrollment.setEnrolledAt(Instant.now());
+        return enrollment;
+    }
+
+    /**
+     * Tells Spring Data whether to persist or merge the enrollment on save.
+     * New enrollments are persisted directly, without the SELECT a merge would issue first.
+     */
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+}
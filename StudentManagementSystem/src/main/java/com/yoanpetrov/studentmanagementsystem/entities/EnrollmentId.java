@@ -0,0 +1,21 @@
+package com.yoanpetrov.studentmanagementsystem.entities;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * The composite primary key of an {@code Enrollment}.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Embeddable
+public class EnrollmentId implements Serializable {
+
+    private Long courseId;
+    private Long userId;
+}
@@ -0,0 +1,45 @@
+package com.yoanpetrov.studentmanagementsystem.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Records the last revocation of the tokens of a username, so that every application authenticating the tokens,
+ * including the non-blocking API, rejects the revoked ones.
+ * The row with an empty username, which no account can have, records the last revocation of all tokens.
+ * The statements are kept here, as the non-blocking API runs them without JPA.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "token_revocations")
+public class TokenRevocation {
+
+    public static final String ALL_ACCOUNTS = "";
+
+    /**
+     * Records a revocation, keeping the later one if the username was revoked before.
+     */
+    public static final String UPSERT = """
+        insert into token_revocations (username, revoked_at) values (:username, :revokedAt)
+        on conflict (username) do update set revoked_at = greatest(token_revocations.revoked_at, excluded.revoked_at)""";
+
+    /**
+     * Selects the time of the last revocation that applies to the tokens of a username, or 0 if there was none.
+     */
+    public static final String LAST_REVOCATION_OF = """
+        select coalesce(max(revoked_at), 0) from token_revocations where username in (:username, :allAccounts)""";
+
+    @Id
+    private String username;
+    /**
+     * The time of the revocation, in milliseconds since the epoch.
+     */
+    @Column(nullable = false)
+    private long revokedAt;
+
+    public boolean isAllAccounts() {
+        return ALL_ACCOUNTS.equals(username);
+    }
+}
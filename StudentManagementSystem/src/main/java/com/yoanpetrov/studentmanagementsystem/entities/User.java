@@ -1,14 +1,17 @@
 package com.yoanpetrov.studentmanagementsystem.entities;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.yoanpetrov.studentmanagementsystem.configurations.CacheConfiguration;
 import jakarta.persistence.*;
 import lombok.*;
-
-import java.util.ArrayList;
-import java.util.List;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
- * Represents a user. Each user can be enrolled in multiple courses, and is connected to a single user account.
+ * Represents a user. Each user can be enrolled in multiple courses through {@code Enrollment}s,
+ * and is connected to a single user account.
+ * Versioned, so concurrent updates of the same user are detected instead of overwriting each other.
  */
 @Data
 @AllArgsConstructor
@@ -16,6 +19,7 @@ import java.util.List;
 @Builder
 @Entity
 @Table(name = "users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfiguration.USERS_REGION)
 public class User {
 
     @Id
@@ -25,11 +29,13 @@ public class User {
     private String lastName;
     private String email;
 
-    @EqualsAndHashCode.Exclude
-    @ToString.Exclude
-    @ManyToMany(mappedBy = "users", cascade = CascadeType.REMOVE)
-    @JsonIgnore // do not remove unless you want to create a StackOverflow error
-    private List<Course> courses = new ArrayList<>();
+    /**
+     * Incremented on every change of the user, and used as its ETag.
+     */
+    @Version
+    @ColumnDefault("0")
+    @JsonIgnore
+    private long version;
 
     @EqualsAndHashCode.Exclude
     @ToString.Exclude
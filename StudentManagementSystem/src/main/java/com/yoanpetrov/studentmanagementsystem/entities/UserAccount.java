@@ -1,8 +1,11 @@
 package com.yoanpetrov.studentmanagementsystem.entities;
 
+import com.yoanpetrov.studentmanagementsystem.configurations.CacheConfiguration;
 import com.yoanpetrov.studentmanagementsystem.security.Role;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Represents a user account. Each user account is connected to a single user.
@@ -15,6 +18,7 @@ import lombok.*;
 @Builder
 @Entity
 @Table(name = "user_accounts")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfiguration.USER_ACCOUNTS_REGION)
 public class UserAccount {
 
     @Id
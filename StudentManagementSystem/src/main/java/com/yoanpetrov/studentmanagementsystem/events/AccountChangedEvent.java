@@ -0,0 +1,50 @@
+package com.yoanpetrov.studentmanagementsystem.events;
+
+/**
+ * Published when a user account was updated or deleted,
+ * so that anything derived from the account can be dropped.
+ * The listeners run once the transaction making the change commits, so a failed change leaves everything in place.
+ *
+ * @param username      the username of the account before the change, or null if all accounts changed.
+ * @param revokesTokens whether the tokens issued to the account so far have to be revoked.
+ */
+public record AccountChangedEvent(String username, boolean revokesTokens) {
+
+    /**
+     * Creates an event for a change of a single account that leaves its tokens valid.
+     *
+     * @param username the username of the account.
+     * @return the event.
+     */
+    public static AccountChangedEvent updated(String username) {
+        return new AccountChangedEvent(username, false);
+    }
+
+    /**
+     * Creates an event for a change of a single account that invalidates its tokens.
+     *
+     * @param username the username of the account before the change.
+     * @return the event.
+     */
+    public static AccountChangedEvent revoked(String username) {
+        return new AccountChangedEvent(username, true);
+    }
+
+    /**
+     * Creates an event for a change of all accounts, which invalidates all tokens.
+     *
+     * @return the event.
+     */
+    public static AccountChangedEvent allAccounts() {
+        return new AccountChangedEvent(null, true);
+    }
+
+    /**
+     * Checks whether the event is for all accounts.
+     *
+     * @return true if all accounts changed, false if a single one did.
+     */
+    public boolean isAllAccounts() {
+        return username == null;
+    }
+}
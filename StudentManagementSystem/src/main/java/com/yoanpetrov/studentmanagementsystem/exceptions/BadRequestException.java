@@ -0,0 +1,11 @@
+package com.yoanpetrov.studentmanagementsystem.exceptions;
+
+/**
+ * An exception for cases where a 400 Bad Request status code should be returned from a controller.
+ */
+public class BadRequestException extends RuntimeException {
+
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
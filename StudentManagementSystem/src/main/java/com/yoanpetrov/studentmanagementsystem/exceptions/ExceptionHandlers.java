@@ -7,6 +7,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.lang.NonNull;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -42,6 +43,34 @@ public class ExceptionHandlers extends ResponseEntityExceptionHandler {
             HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<?> handleOptimisticLockingFailureException(Throwable ex) {
+        log.debug("ObjectOptimisticLockingFailureException, returning 409. Message: {}", ex.getMessage());
+        return new ResponseEntity<>(new ErrorResponse(
+            "409",
+            "The resource was changed by another request, please retry"),
+            HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<?> handleBadRequestException(Throwable ex) {
+        log.debug("BadRequestException, returning 400. Message: {}", ex.getMessage());
+        return new ResponseEntity<>(new ErrorResponse(
+            "400",
+            ex.getMessage()),
+            HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<?> handleServiceUnavailableException(Throwable ex) {
+        log.debug("ServiceUnavailableException, returning 503. Message: {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(new ErrorResponse(
+                "503",
+                ex.getMessage()));
+    }
+
     @ExceptionHandler(BadCredentialsException.class)
     public ResponseEntity<?> handleBadCredentialsException(Throwable ex) {
         log.debug("BadCredentialsException, returning 401. Message: {}", ex.getMessage());
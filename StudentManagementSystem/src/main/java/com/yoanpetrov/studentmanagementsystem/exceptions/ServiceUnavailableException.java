@@ -0,0 +1,11 @@
+package com.yoanpetrov.studentmanagementsystem.exceptions;
+
+/**
+ * An exception for cases where a 503 Service Unavailable status code should be returned from a controller.
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
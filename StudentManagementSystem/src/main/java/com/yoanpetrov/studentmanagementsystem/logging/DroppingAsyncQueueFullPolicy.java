@@ -0,0 +1,43 @@
+package com.yoanpetrov.studentmanagementsystem.logging;
+
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.async.AsyncQueueFullPolicy;
+import org.apache.logging.log4j.core.async.EventRoute;
+import org.apache.logging.log4j.util.PropertiesUtil;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides what happens to a log event when the ring buffer of the asynchronous loggers is full.
+ * Events at {@code log4j2.discardThreshold} (INFO by default) or less severe are dropped and counted,
+ * so that a burst of logging never blocks a request; more severe events wait for a free slot.
+ * Set as the {@code log4j2.asyncQueueFullPolicy} in {@code log4j2.component.properties}.
+ */
+public class DroppingAsyncQueueFullPolicy implements AsyncQueueFullPolicy {
+
+    private static final LongAdder DROPPED_EVENTS = new LongAdder();
+
+    private final Level threshold = Level.toLevel(
+        PropertiesUtil.getProperties().getStringProperty("log4j2.discardThreshold"), Level.INFO);
+
+    /**
+     * Returns the number of events dropped since the start of the application.
+     *
+     * @return the number of dropped events.
+     */
+    public static long getDroppedEventCount() {
+        return DROPPED_EVENTS.sum();
+    }
+
+    @Override
+    public EventRoute getRoute(long backgroundThreadId, Level level) {
+        if (level.isLessSpecificThan(threshold)) {
+            DROPPED_EVENTS.increment();
+            return EventRoute.DISCARD;
+        }
+        // the background thread itself cannot wait for the buffer it drains
+        return Thread.currentThread().getId() == backgroundThreadId
+            ? EventRoute.SYNCHRONOUS
+            : EventRoute.ENQUEUE;
+    }
+}
@@ -0,0 +1,36 @@
+package com.yoanpetrov.studentmanagementsystem.pagination;
+
+import lombok.Value;
+
+/**
+ * The position of the last row of a page, from which the next page continues.
+ */
+@Value
+public class Cursor {
+
+    KeysetSort sort;
+    long lastId;
+    String lastKey;
+
+    /**
+     * Creates a cursor pointing at the given row.
+     *
+     * @param sort    the sort the row was returned in.
+     * @param lastId  the id of the row.
+     * @param lastKey the sort key of the row, ignored when sorting by id.
+     * @return the cursor.
+     */
+    public static Cursor after(KeysetSort sort, long lastId, String lastKey) {
+        return new Cursor(sort, lastId, sort == KeysetSort.ID || lastKey == null ? "" : lastKey);
+    }
+
+    /**
+     * Creates a cursor pointing before the first row.
+     *
+     * @param sort the sort of the listing.
+     * @return the cursor.
+     */
+    public static Cursor start(KeysetSort sort) {
+        return new Cursor(sort, Long.MIN_VALUE, "");
+    }
+}
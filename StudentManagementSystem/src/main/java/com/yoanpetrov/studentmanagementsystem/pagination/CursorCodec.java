@@ -0,0 +1,90 @@
+package com.yoanpetrov.studentmanagementsystem.pagination;
+
+import com.yoanpetrov.studentmanagementsystem.exceptions.BadRequestException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * Encodes cursors into opaque strings and decodes them back.
+ * Each cursor is signed with HMAC-SHA256 and bound to the listing it was issued for,
+ * so clients can neither forge positions nor reuse a cursor on another listing.
+ */
+@Component
+public class CursorCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    public CursorCodec(
+        @Value("${application.pagination.cursor-secret:${application.security.jwt.secret-key}}") String secret
+    ) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    /**
+     * Encodes a cursor for the given listing.
+     *
+     * @param scope  the listing the cursor belongs to.
+     * @param cursor the cursor.
+     * @return the opaque cursor string.
+     */
+    public String encode(String scope, Cursor cursor) {
+        byte[] payload = String.join("\n",
+            cursor.getSort().name(),
+            Long.toString(cursor.getLastId()),
+            cursor.getLastKey()).getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payload) + "." + ENCODER.encodeToString(sign(scope, payload));
+    }
+
+    /**
+     * Decodes a cursor issued for the given listing and sort.
+     *
+     * @param scope  the listing the cursor is used on.
+     * @param sort   the sort the cursor is used with.
+     * @param cursor the opaque cursor string.
+     * @return the decoded cursor.
+     * @throws BadRequestException if the cursor is malformed, tampered with, or was issued for another listing or sort.
+     */
+    public Cursor decode(String scope, KeysetSort sort, String cursor) {
+        try {
+            int separator = cursor.indexOf('.');
+            if (separator < 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            byte[] payload = DECODER.decode(cursor.substring(0, separator));
+            byte[] signature = DECODER.decode(cursor.substring(separator + 1));
+            if (!MessageDigest.isEqual(signature, sign(scope, payload))) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            String[] parts = new String(payload, StandardCharsets.UTF_8).split("\n", 3);
+            if (parts.length != 3 || !parts[0].equals(sort.name())) {
+                throw new BadRequestException("The cursor does not match the requested sort");
+            }
+            return new Cursor(sort, Long.parseLong(parts[1]), parts[2]);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    private byte[] sign(String scope, byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(scope.getBytes(StandardCharsets.UTF_8));
+            mac.update((byte) 0);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Could not sign the cursor", e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.yoanpetrov.studentmanagementsystem.pagination;
+
+import org.hibernate.boot.ResourceStreamLocator;
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.boot.model.relational.SimpleAuxiliaryDatabaseObject;
+import org.hibernate.boot.spi.AdditionalMappingContributions;
+import org.hibernate.boot.spi.AdditionalMappingContributor;
+import org.hibernate.boot.spi.InFlightMetadataCollector;
+import org.hibernate.boot.spi.MetadataBuildingContext;
+import org.hibernate.dialect.PostgreSQLDialect;
+
+import java.util.Set;
+
+/**
+ * Adds the indexes behind the listings sorted by name to the generated schema.
+ * Names may be null, so those listings sort and seek on {@code coalesce(name, '')}, which a plain index
+ * on the column cannot serve. These indexes are on the same expressions, followed by the id,
+ * so a page is read from the index in order instead of sorting the whole table.
+ * The non-blocking API runs the same expressions against the same tables, so its pages use them too.
+ * Registered through {@code META-INF/services}, as expression indexes cannot be declared on the entities.
+ */
+public class KeysetIndexContributor implements AdditionalMappingContributor {
+
+    @Override
+    public String getContributorName() {
+        return "keyset-indexes";
+    }
+
+    @Override
+    public void contribute(
+        AdditionalMappingContributions contributions,
+        InFlightMetadataCollector metadata,
+        ResourceStreamLocator resourceStreamLocator,
+        MetadataBuildingContext buildingContext
+    ) {
+        Namespace namespace = metadata.getDatabase().getDefaultNamespace();
+        metadata.addAuxiliaryDatabaseObject(expressionIndex(
+            namespace, "idx_courses_name_keyset", "courses", "coalesce(name, ''), course_id"));
+        metadata.addAuxiliaryDatabaseObject(expressionIndex(
+            namespace, "idx_users_last_name_keyset", "users", "coalesce(last_name, ''), user_id"));
+    }
+
+    private static SimpleAuxiliaryDatabaseObject expressionIndex(
+        Namespace namespace,
+        String name,
+        String table,
+        String expressions
+    ) {
+        return new SimpleAuxiliaryDatabaseObject(
+            namespace,
+            "create index if not exists " + name + " on " + table + " (" + expressions + ")",
+            "drop index if exists " + name,
+            Set.of(PostgreSQLDialect.class.getName()));
+    }
+}
@@ -0,0 +1,76 @@
+package com.yoanpetrov.studentmanagementsystem.pagination;
+
+import com.yoanpetrov.studentmanagementsystem.dto.CursorPage;
+import com.yoanpetrov.studentmanagementsystem.exceptions.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Runs keyset-paginated queries. Instead of skipping rows with an offset, each page continues
+ * strictly after the last row of the previous one, so every page costs the same no matter how deep it is.
+ */
+@RequiredArgsConstructor
+@Component
+public class KeysetPaginator {
+
+    private final CursorCodec cursorCodec;
+
+    @Value("${application.pagination.default-page-size:50}")
+    private int defaultPageSize;
+    @Value("${application.pagination.max-page-size:500}")
+    private int maxPageSize;
+
+    /**
+     * Fetches a single page of a listing.
+     *
+     * @param scope    the listing the page belongs to, cursors are only valid within the same scope.
+     * @param sort     the sort of the listing.
+     * @param cursor   the cursor of the previous page, or null for the first page.
+     * @param size     the requested page size, or null for the default one.
+     * @param query    the query returning the rows after the given cursor, limited by the given {@code Pageable}.
+     * @param cursorOf creates the cursor pointing at a row.
+     * @param <T>      the type of the rows.
+     * @return the page, with a cursor to the next page if there are more rows.
+     * @throws BadRequestException if the cursor or the page size are invalid.
+     */
+    public <T> CursorPage<T> paginate(
+        String scope,
+        KeysetSort sort,
+        String cursor,
+        Integer size,
+        BiFunction<Cursor, Pageable, List<T>> query,
+        Function<T, Cursor> cursorOf
+    ) {
+        int pageSize = resolvePageSize(size);
+        Cursor after = cursor == null || cursor.isEmpty()
+            ? Cursor.start(sort)
+            : cursorCodec.decode(scope, sort, cursor);
+
+        // one extra row tells whether there is a next page without a count query
+        List<T> rows = query.apply(after, PageRequest.of(0, pageSize + 1));
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = new ArrayList<>(rows.subList(0, pageSize));
+        String nextCursor = cursorCodec.encode(scope, cursorOf.apply(items.get(pageSize - 1)));
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new BadRequestException("The page size must be at least 1");
+        }
+        return Math.min(size, maxPageSize);
+    }
+}
@@ -0,0 +1,39 @@
+package com.yoanpetrov.studentmanagementsystem.pagination;
+
+import com.yoanpetrov.studentmanagementsystem.exceptions.BadRequestException;
+
+/**
+ * The orderings supported by the keyset-paginated list endpoints.
+ * Every ordering ends with the id of the row, so that the order is stable even when names repeat.
+ */
+public enum KeysetSort {
+
+    /**
+     * Orders by the id of the resource.
+     */
+    ID,
+
+    /**
+     * Orders by the name of the resource (last name for users, name for courses, username for accounts),
+     * then by its id.
+     */
+    NAME,
+
+    ;
+
+    /**
+     * Parses a sort request parameter, ignoring its case.
+     *
+     * @param parameter the value of the request parameter.
+     * @return the matching sort.
+     * @throws BadRequestException if the value does not match any sort.
+     */
+    public static KeysetSort fromParameter(String parameter) {
+        for (KeysetSort sort : values()) {
+            if (sort.name().equalsIgnoreCase(parameter)) {
+                return sort;
+            }
+        }
+        throw new BadRequestException("Unsupported sort: " + parameter);
+    }
+}
@@ -1,13 +1,105 @@
 package com.yoanpetrov.studentmanagementsystem.repositories;
 
+import com.yoanpetrov.studentmanagementsystem.dto.CollectionVersion;
+import com.yoanpetrov.studentmanagementsystem.dto.CourseView;
 import com.yoanpetrov.studentmanagementsystem.entities.Course;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
 
-    List<Course> findCoursesByUsersUserId(Long id);
+    /**
+     * Selects the columns of a course alias {@code c} into a {@code CourseView}.
+     */
+    String COURSE_VIEW = """
+        new com.yoanpetrov.studentmanagementsystem.dto.CourseView(
+            c.courseId, c.name, c.description, c.maxCapacity, c.numberOfStudents, c.version)
+        """;
+
+    @Query("select c.version from Course c where c.courseId = :courseId")
+    Optional<Long> findVersionById(Long courseId);
+
+    @Query("""
+        select new com.yoanpetrov.studentmanagementsystem.dto.CollectionVersion(
+            count(c), coalesce(sum(c.version), 0), coalesce(max(c.courseId), 0))
+        from Course c""")
+    CollectionVersion findCollectionVersion();
+
+    @Query("select " + COURSE_VIEW + " from Course c")
+    List<CourseView> findAllViews();
+
+    @Query("select " + COURSE_VIEW + " from Enrollment e join e.course c where e.id.userId = :userId")
+    List<CourseView> findViewsByUserId(Long userId);
+
+    /**
+     * Locks the row of the course until the end of the transaction, blocking concurrent seat changes.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Course c where c.courseId = :courseId")
+    Optional<Course> findByIdForUpdate(Long courseId);
+
+    /**
+     * Frees the seats of the user in all of their courses.
+     * As a bulk update, it evicts the whole courses region of the second-level cache,
+     * which is fine for a change that spans many courses.
+     * The seat changes of a single course are made by {@code EnrollmentService}, which evicts only that course.
+     */
+    @Modifying
+    @Query("""
+        update Course c set c.numberOfStudents = c.numberOfStudents - 1, c.version = c.version + 1
+        where c.courseId in (select e.id.courseId from Enrollment e where e.id.userId = :userId)""")
+    int releaseSeatsOfUser(Long userId);
+
+    @Modifying
+    @Query("update Course c set c.numberOfStudents = 0, c.version = c.version + 1")
+    int releaseAllSeats();
+
+    @Query("select " + COURSE_VIEW + " from Course c where c.courseId > :afterId order by c.courseId")
+    List<CourseView> findPageOrderedById(Long afterId, Pageable pageable);
+
+    @Query("select " + COURSE_VIEW + """
+        from Course c
+        where coalesce(c.name, '') > :afterKey
+            or (coalesce(c.name, '') = :afterKey and c.courseId > :afterId)
+        order by coalesce(c.name, ''), c.courseId""")
+    List<CourseView> findPageOrderedByName(String afterKey, Long afterId, Pageable pageable);
+
+    @Query("select " + COURSE_VIEW + """
+        from Enrollment e join e.course c
+        where e.id.userId = :userId and c.courseId > :afterId
+        order by c.courseId""")
+    List<CourseView> findUserPageOrderedById(Long userId, Long afterId, Pageable pageable);
+
+    @Query("select " + COURSE_VIEW + """
+        from Enrollment e join e.course c
+        where e.id.userId = :userId
+            and (coalesce(c.name, '') > :afterKey
+                or (coalesce(c.name, '') = :afterKey and c.courseId > :afterId))
+        order by coalesce(c.name, ''), c.courseId""")
+    List<CourseView> findUserPageOrderedByName(Long userId, String afterKey, Long afterId, Pageable pageable);
+
+    /**
+     * Streams all courses from a database cursor. Has to be consumed inside a transaction.
+     * Bypasses the second-level cache, so that an export does not push the frequently read entries out of it.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE")
+    })
+    @Query("select c from Course c order by c.courseId")
+    Stream<Course> streamAllOrderedById();
 }
@@ -0,0 +1,50 @@
+package com.yoanpetrov.studentmanagementsystem.repositories;
+
+import com.yoanpetrov.studentmanagementsystem.dto.EnrollmentDto;
+import com.yoanpetrov.studentmanagementsystem.entities.Enrollment;
+import com.yoanpetrov.studentmanagementsystem.entities.EnrollmentId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Repository
+public interface EnrollmentRepository extends JpaRepository<Enrollment, EnrollmentId> {
+
+    @Query("""
+        select e.id.userId from Enrollment e
+        where e.id.courseId = :courseId and e.id.userId in :userIds""")
+    List<Long> findEnrolledUserIds(Long courseId, Collection<Long> userIds);
+
+    @Query("select e.id.courseId from Enrollment e where e.id.userId = :userId")
+    List<Long> findCourseIdsByUserId(Long userId);
+
+    @Modifying
+    @Query("delete from Enrollment e where e.id.courseId = :courseId and e.id.userId = :userId")
+    int deleteEnrollment(Long courseId, Long userId);
+
+    @Modifying
+    @Query("delete from Enrollment e where e.id.courseId = :courseId")
+    int deleteAllByCourseId(Long courseId);
+
+    @Modifying
+    @Query("delete from Enrollment e where e.id.userId = :userId")
+    int deleteAllByUserId(Long userId);
+
+    /**
+     * Streams all enrollments from a database cursor. Has to be consumed inside a transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("""
+        select new com.yoanpetrov.studentmanagementsystem.dto.EnrollmentDto(e.id.courseId, e.id.userId, e.enrolledAt)
+        from Enrollment e
+        order by e.id.courseId, e.id.userId""")
+    Stream<EnrollmentDto> streamAll();
+}
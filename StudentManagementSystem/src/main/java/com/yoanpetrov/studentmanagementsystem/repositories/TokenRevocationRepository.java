@@ -0,0 +1,24 @@
+package com.yoanpetrov.studentmanagementsystem.repositories;
+
+import com.yoanpetrov.studentmanagementsystem.entities.TokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocation, String> {
+
+    @Modifying
+    @Query(value = TokenRevocation.UPSERT, nativeQuery = true)
+    void upsert(String username, long revokedAt);
+
+    @Query("select r from TokenRevocation r where r.revokedAt >= :since")
+    List<TokenRevocation> findRevokedSince(long since);
+
+    @Modifying
+    @Query("delete from TokenRevocation r where r.revokedAt < :before")
+    void deleteRevokedBefore(long before);
+}
@@ -1,15 +1,64 @@
 package com.yoanpetrov.studentmanagementsystem.repositories;
 
+import com.yoanpetrov.studentmanagementsystem.dto.UserAccountView;
 import com.yoanpetrov.studentmanagementsystem.entities.UserAccount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserAccountRepository extends JpaRepository<UserAccount, Long> {
 
+    /**
+     * Selects an account along with the columns of its user, left-joined so that accounts without a user are kept.
+     */
+    String USER_ACCOUNT_VIEW = """
+        select new com.yoanpetrov.studentmanagementsystem.dto.UserAccountView(
+            a.accountId, a.username, a.password, a.role, u.userId, u.firstName, u.lastName, u.email, u.version)
+        from UserAccount a left join a.user u
+        """;
+
     boolean existsByUsername(String username);
 
+    @Query("select a.username from UserAccount a where a.username in :usernames")
+    List<String> findExistingUsernames(Collection<String> usernames);
+
+    @Query("select a.username from UserAccount a where a.user.userId = :userId")
+    Optional<String> findUsernameByUserId(Long userId);
+
+    /**
+     * Finds an account by its username, fetching its user in the same query. The result is kept in the query cache,
+     * as this runs for every authenticated request.
+     */
+    @EntityGraph(attributePaths = "user")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<UserAccount> findByUsername(String username);
+
+    /**
+     * Finds an account by its id, fetching its user in the same query.
+     */
+    @EntityGraph(attributePaths = "user")
+    @Override
+    Optional<UserAccount> findById(Long accountId);
+
+    @Query(USER_ACCOUNT_VIEW)
+    List<UserAccountView> findAllViews();
+
+    @Query(USER_ACCOUNT_VIEW + "where a.accountId > :afterId order by a.accountId")
+    List<UserAccountView> findPageOrderedById(long afterId, Pageable pageable);
+
+    @Query(USER_ACCOUNT_VIEW + """
+        where coalesce(a.username, '') > :afterKey
+            or (coalesce(a.username, '') = :afterKey and a.accountId > :afterId)
+        order by coalesce(a.username, ''), a.accountId""")
+    List<UserAccountView> findPageOrderedByUsername(String afterKey, long afterId, Pageable pageable);
 }
@@ -1,13 +1,81 @@
 package com.yoanpetrov.studentmanagementsystem.repositories;
 
+import com.yoanpetrov.studentmanagementsystem.dto.UserView;
 import com.yoanpetrov.studentmanagementsystem.entities.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    List<User> findUsersByCoursesCourseId(Long id);
+    /**
+     * Selects the columns of a user alias {@code u} into a {@code UserView}.
+     */
+    String USER_VIEW = """
+        new com.yoanpetrov.studentmanagementsystem.dto.UserView(
+            u.userId, u.firstName, u.lastName, u.email, u.version)
+        """;
+
+    @Query("select u.version from User u where u.userId = :userId")
+    Optional<Long> findVersionById(Long userId);
+
+    /**
+     * Finds a user by its id, fetching its account in the same query,
+     * as the account of a user is always loaded along with it.
+     */
+    @EntityGraph(attributePaths = "userAccount")
+    @Override
+    Optional<User> findById(Long userId);
+
+    @Query("select " + USER_VIEW + " from User u")
+    List<UserView> findAllViews();
+
+    @Query("select " + USER_VIEW + " from Enrollment e join e.user u where e.id.courseId = :courseId")
+    List<UserView> findViewsByCourseId(Long courseId);
+
+    @Query("select u.userId from User u where u.userId in :ids")
+    List<Long> findExistingUserIds(Collection<Long> ids);
+
+    @Query("select " + USER_VIEW + " from User u where u.userId > :afterId order by u.userId")
+    List<UserView> findPageOrderedById(Long afterId, Pageable pageable);
+
+    @Query("select " + USER_VIEW + """
+        from User u
+        where coalesce(u.lastName, '') > :afterKey
+            or (coalesce(u.lastName, '') = :afterKey and u.userId > :afterId)
+        order by coalesce(u.lastName, ''), u.userId""")
+    List<UserView> findPageOrderedByLastName(String afterKey, Long afterId, Pageable pageable);
+
+    @Query("select " + USER_VIEW + """
+        from Enrollment e join e.user u
+        where e.id.courseId = :courseId and u.userId > :afterId
+        order by u.userId""")
+    List<UserView> findCoursePageOrderedById(Long courseId, Long afterId, Pageable pageable);
+
+    @Query("select " + USER_VIEW + """
+        from Enrollment e join e.user u
+        where e.id.courseId = :courseId
+            and (coalesce(u.lastName, '') > :afterKey
+                or (coalesce(u.lastName, '') = :afterKey and u.userId > :afterId))
+        order by coalesce(u.lastName, ''), u.userId""")
+    List<UserView> findCoursePageOrderedByLastName(Long courseId, String afterKey, Long afterId, Pageable pageable);
+
+    /**
+     * Streams the views of all users from a database cursor. Has to be consumed inside a transaction.
+     * No entity is loaded, so neither the accounts of the users nor the second-level cache are touched.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select " + USER_VIEW + " from User u order by u.userId")
+    Stream<UserView> streamAllViewsOrderedById();
 }
@@ -0,0 +1,63 @@
+package com.yoanpetrov.studentmanagementsystem.security;
+
+import com.yoanpetrov.studentmanagementsystem.entities.UserAccount;
+import lombok.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+
+/**
+ * The authenticated principal, carrying the ids of the account and its user
+ * so that permission checks do not have to look the account up again.
+ * Built either from a {@code UserAccount} or from the claims of a JWT token.
+ */
+@Value
+public class AccountPrincipal implements UserDetails {
+
+    long accountId;
+    /**
+     * The id of the account's user, or null if the account has no user.
+     */
+    Long userId;
+    String username;
+    String password;
+    Role role;
+    Collection<? extends GrantedAuthority> authorities;
+
+    /**
+     * Creates the principal of the given account.
+     *
+     * @param account the account.
+     * @return the principal, with the account's password hash.
+     */
+    public static AccountPrincipal of(UserAccount account) {
+        return new AccountPrincipal(
+            account.getAccountId(),
+            account.getUser() == null ? null : account.getUser().getUserId(),
+            account.getUsername(),
+            account.getPassword(),
+            account.getRole(),
+            account.getRole().getAuthorities());
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return true;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+}
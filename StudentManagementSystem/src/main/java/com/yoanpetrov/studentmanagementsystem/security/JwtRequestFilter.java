@@ -1,7 +1,12 @@
 package com.yoanpetrov.studentmanagementsystem.security;
 
 import com.yoanpetrov.studentmanagementsystem.services.JwtService;
+import com.yoanpetrov.studentmanagementsystem.services.TokenRevocationService;
+import com.yoanpetrov.studentmanagementsystem.timing.RequestPhase;
+import com.yoanpetrov.studentmanagementsystem.timing.RequestTimings;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -10,12 +15,14 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -24,6 +31,8 @@ import java.io.IOException;
 
 /**
  * A JWT authentication filter, executed on every incoming request.
+ * If stateless authentication is enabled, the principal is built from the token claims alone
+ * and the account is loaded only for tokens that do not carry them.
  */
 @RequiredArgsConstructor
 @Component
@@ -35,6 +44,10 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
     private final UserDetailsService userAccountService;
     private final JwtService jwtService;
+    private final TokenRevocationService tokenRevocationService;
+
+    @Value("${application.security.jwt.stateless-authentication:false}")
+    private boolean statelessAuthentication;
 
     /**
      * Validates the JWT token and sets the authentication on the {@code SecurityContext} on successful validation.
@@ -51,6 +64,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         @NonNull HttpServletResponse response,
         @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
+        long start = RequestTimings.start(RequestPhase.JWT);
         try {
             LOG.debug("Filtering request");
             if (request.getServletPath().matches("/api/v1/(login|register)")) {
@@ -63,11 +77,12 @@ public class JwtRequestFilter extends OncePerRequestFilter {
                 return;
             }
             final String jwt = authHeader.substring(BEARER_TOKEN_START);
-            final String username = jwtService.extractUsername(jwt);
+            final Claims claims = jwtService.extractAllClaims(jwt);
+            final String username = claims.getSubject();
 
             if (username != null && noExistingAuthentication()) {
-                UserDetails userDetails = userAccountService.loadUserByUsername(username);
-                if (!jwtService.validateToken(jwt, userDetails)) {
+                UserDetails userDetails = loadUserDetails(claims);
+                if (userDetails == null || !jwtService.validateToken(claims, userDetails)) {
                     LOG.debug("Invalid JWT token, passing the request further down the filter chain");
                     return;
                 }
@@ -80,12 +95,41 @@ public class JwtRequestFilter extends OncePerRequestFilter {
             LOG.debug("Invalid JWT signature. Message: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
             LOG.debug("The JWT token is expired. Message: {}", e.getMessage());
+        } catch (JwtException e) {
+            LOG.debug("Invalid JWT token. Message: {}", e.getMessage());
+        } catch (UsernameNotFoundException e) {
+            LOG.debug("The account of the JWT token no longer exists. Message: {}", e.getMessage());
         } finally {
+            RequestTimings.stop(RequestPhase.JWT, start);
             LOG.debug("Passing the request further down the filter chain");
             filterChain.doFilter(request, response);
         }
     }
 
+    /**
+     * Loads the user that the token with the given claims was issued to.
+     * In stateless mode the user is built from the claims, unless the token does not carry them.
+     *
+     * @param claims the verified claims of the token.
+     * @return the user details, or null if the token was revoked.
+     * @throws org.springframework.security.core.userdetails.UsernameNotFoundException if the account was not found.
+     */
+    private UserDetails loadUserDetails(Claims claims) {
+        if (!statelessAuthentication) {
+            return userAccountService.loadUserByUsername(claims.getSubject());
+        }
+        if (tokenRevocationService.isRevoked(claims)) {
+            LOG.debug("The JWT token of {} was revoked", claims.getSubject());
+            return null;
+        }
+        UserDetails principal = jwtService.extractPrincipal(claims);
+        if (principal == null) {
+            LOG.debug("The JWT token does not carry the principal claims, loading user {}", claims.getSubject());
+            return userAccountService.loadUserByUsername(claims.getSubject());
+        }
+        return principal;
+    }
+
     /**
      * Validates the Authorization header.
      *
@@ -0,0 +1,360 @@
+package com.yoanpetrov.studentmanagementsystem.services;
+
+import com.yoanpetrov.studentmanagementsystem.dto.AccountImportRejectDto;
+import com.yoanpetrov.studentmanagementsystem.dto.AccountImportResultDto;
+import com.yoanpetrov.studentmanagementsystem.entities.User;
+import com.yoanpetrov.studentmanagementsystem.entities.UserAccount;
+import com.yoanpetrov.studentmanagementsystem.exceptions.ServiceUnavailableException;
+import com.yoanpetrov.studentmanagementsystem.repositories.UserAccountRepository;
+import com.yoanpetrov.studentmanagementsystem.security.Role;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Account import service. Used to create many accounts, each with its user, from a CSV file.
+ * The file is read as a stream and imported in chunks: the passwords of a chunk are hashed in parallel,
+ * and its accounts and users are inserted as JDBC batches in a transaction of its own.
+ * The hashing runs on the import's own {@code hashingThreads} threads, each waiting for one hash at a time,
+ * so that imports never take more than that many of the password hashing executor's threads and queue slots,
+ * and logins keep being served while an import runs.
+ * Invalid lines are skipped and reported, they do not stop the import, and neither does a line that cannot
+ * be saved: a chunk that fails to save is saved again one account at a time, and only the failing ones are rejected.
+ */
+@RequiredArgsConstructor
+@Service
+public class AccountImportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AccountImportService.class);
+
+    /**
+     * The columns of each line, in order. A first line with these names is treated as a header.
+     */
+    private static final List<String> COLUMNS = List.of("username", "password", "role", "firstName", "lastName", "email");
+    private static final int CHUNK_SIZE = 500;
+
+    private final UserAccountRepository accountRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${application.accounts.import.hashing-threads:0}")
+    private int hashingThreads;
+
+    private ExecutorService hashingExecutor;
+
+    @PostConstruct
+    void init() {
+        int threads = hashingThreads > 0 ? hashingThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        hashingExecutor = Executors.newFixedThreadPool(threads, new CustomizableThreadFactory("account-import-"));
+    }
+
+    @PreDestroy
+    void close() {
+        hashingExecutor.shutdown();
+    }
+
+    /**
+     * Imports the accounts in the given CSV stream.
+     * Each line holds a username, password, role, first name, last name and email.
+     * The role may be empty, in which case the account is a student's.
+     *
+     * @param csv the CSV stream, in UTF-8.
+     * @return the number of imported accounts and the rejected lines, with the reason for each.
+     * @throws IOException if reading the stream fails.
+     */
+    public AccountImportResultDto importAccounts(InputStream csv) throws IOException {
+        List<AccountImportRejectDto> rejects = new ArrayList<>();
+        Set<String> usernamesInFile = new HashSet<>();
+        List<ImportLine> chunk = new ArrayList<>(CHUNK_SIZE);
+        long importedCount = 0;
+        long lineNumber = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8))) {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                lineNumber++;
+                if (text.isBlank() || (lineNumber == 1 && isHeader(text))) {
+                    continue;
+                }
+                try {
+                    ImportLine line = parseLine(lineNumber, text);
+                    if (!usernamesInFile.add(line.username())) {
+                        throw new IllegalArgumentException("Duplicate username in the file");
+                    }
+                    chunk.add(line);
+                } catch (IllegalArgumentException e) {
+                    rejects.add(new AccountImportRejectDto(lineNumber, e.getMessage()));
+                }
+                if (chunk.size() == CHUNK_SIZE) {
+                    importedCount += importChunk(chunk, rejects);
+                    chunk.clear();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importedCount += importChunk(chunk, rejects);
+        }
+        LOG.info("Imported {} accounts, rejected {} lines", importedCount, rejects.size());
+        return new AccountImportResultDto(importedCount, rejects);
+    }
+
+    /**
+     * Imports a chunk of valid lines.
+     *
+     * @param chunk   the lines.
+     * @param rejects the rejected lines, to which the lines that could not be imported are added.
+     * @return the number of imported accounts.
+     */
+    private int importChunk(List<ImportLine> chunk, List<AccountImportRejectDto> rejects) {
+        Set<String> existingUsernames = new HashSet<>(accountRepository.findExistingUsernames(
+            chunk.stream().map(ImportLine::username).toList()));
+        List<ImportLine> newLines = new ArrayList<>(chunk.size());
+        for (ImportLine line : chunk) {
+            if (existingUsernames.contains(line.username())) {
+                rejects.add(new AccountImportRejectDto(line.number(), "An account with the same username already exists"));
+            } else {
+                newLines.add(line);
+            }
+        }
+        List<CompletableFuture<String>> hashes = newLines.stream()
+            .map(line -> CompletableFuture.supplyAsync(() -> hashPassword(line.password()), hashingExecutor))
+            .toList();
+
+        List<UserAccount> accounts = new ArrayList<>(newLines.size());
+        List<ImportLine> importedLines = new ArrayList<>(newLines.size());
+        List<String> importedHashes = new ArrayList<>(newLines.size());
+        for (int i = 0; i < newLines.size(); i++) {
+            ImportLine line = newLines.get(i);
+            String hash = hashes.get(i).join();
+            if (hash == null) {
+                rejects.add(new AccountImportRejectDto(line.number(), "The server is busy, try again later"));
+                continue;
+            }
+            accounts.add(line.toAccount(hash));
+            importedLines.add(line);
+            importedHashes.add(hash);
+        }
+        if (accounts.isEmpty()) {
+            return 0;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> saveAll(accounts));
+            return accounts.size();
+        } catch (DataAccessException | PersistenceException e) {
+            LOG.warn("Could not save a chunk of {} imported accounts, saving them one at a time. Message: {}",
+                accounts.size(), e.getMessage());
+            return saveOneAtATime(importedLines, importedHashes, rejects);
+        }
+    }
+
+    /**
+     * Saves the accounts of the given lines, each in a transaction of its own, after their chunk failed to save.
+     *
+     * @param lines   the lines.
+     * @param hashes  the password hash of each line.
+     * @param rejects the rejected lines, to which the lines that could not be saved are added.
+     * @return the number of saved accounts.
+     */
+    private int saveOneAtATime(List<ImportLine> lines, List<String> hashes, List<AccountImportRejectDto> rejects) {
+        int saved = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            ImportLine line = lines.get(i);
+            // Built again, as the accounts of the failed chunk were already given ids
+            UserAccount account = line.toAccount(hashes.get(i));
+            try {
+                transactionTemplate.executeWithoutResult(status -> saveAll(List.of(account)));
+                saved++;
+            } catch (DataAccessException | PersistenceException e) {
+                LOG.debug("Could not save the imported account of line {}. Message: {}", line.number(), e.getMessage());
+                rejects.add(new AccountImportRejectDto(line.number(), "The account could not be saved"));
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * Inserts the given accounts and their users as JDBC batches, which Hibernate forms from the ordered inserts,
+     * so that the generated ids come from the same sequences as those of the accounts created by the app.
+     * The second-level cache is bypassed, so that an import does not evict the entries of active users.
+     *
+     * @param accounts the accounts.
+     */
+    private void saveAll(List<UserAccount> accounts) {
+        entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+        for (UserAccount account : accounts) {
+            entityManager.persist(account);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private String hashPassword(String password) {
+        try {
+            return passwordEncoder.encode(password);
+        } catch (ServiceUnavailableException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether a line is a header, that is whether its fields are exactly the column names, in order.
+     * A data line, even one whose username starts with a column name, is never taken for a header.
+     *
+     * @param text the line.
+     * @return whether the line is a header.
+     */
+    private static boolean isHeader(String text) {
+        List<String> fields;
+        try {
+            fields = splitFields(text);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        if (fields.size() != COLUMNS.size()) {
+            return false;
+        }
+        for (int i = 0; i < fields.size(); i++) {
+            if (!fields.get(i).trim().equalsIgnoreCase(COLUMNS.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Parses and validates a line.
+     *
+     * @param number the number of the line, starting from 1.
+     * @param text   the text of the line.
+     * @return the parsed line.
+     * @throws IllegalArgumentException if the line is invalid, with the reason as message.
+     */
+    private static ImportLine parseLine(long number, String text) {
+        List<String> fields = splitFields(text);
+        if (fields.size() != COLUMNS.size()) {
+            throw new IllegalArgumentException(
+                "Expected " + COLUMNS.size() + " fields (" + String.join(", ", COLUMNS) + "), found " + fields.size());
+        }
+        String username = fields.get(0).trim();
+        String password = fields.get(1);
+        if (username.isEmpty()) {
+            throw new IllegalArgumentException("Username cannot be blank");
+        }
+        if (password.isBlank()) {
+            throw new IllegalArgumentException("Password cannot be blank");
+        }
+        return new ImportLine(
+            number,
+            username,
+            password,
+            parseRole(fields.get(2)),
+            emptyToNull(fields.get(3)),
+            emptyToNull(fields.get(4)),
+            emptyToNull(fields.get(5)));
+    }
+
+    private static Role parseRole(String field) {
+        String role = field.trim();
+        if (role.isEmpty()) {
+            return Role.STUDENT;
+        }
+        try {
+            return Role.valueOf(role.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown role " + role);
+        }
+    }
+
+    private static String emptyToNull(String field) {
+        String value = field.trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Splits a CSV line into its fields. Fields may be quoted, with quotes inside them doubled.
+     *
+     * @param text the line.
+     * @return the fields, unquoted.
+     * @throws IllegalArgumentException if a quoted field is not closed.
+     */
+    private static List<String> splitFields(String text) {
+        List<String> fields = new ArrayList<>(COLUMNS.size());
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private record ImportLine(
+        long number,
+        String username,
+        String password,
+        Role role,
+        String firstName,
+        String lastName,
+        String email
+    ) {
+
+        UserAccount toAccount(String passwordHash) {
+            return UserAccount.builder()
+                .username(username)
+                .password(passwordHash)
+                .role(role)
+                .user(User.builder()
+                    .firstName(firstName)
+                    .lastName(lastName)
+                    .email(email)
+                    .build())
+                .build();
+        }
+    }
+}
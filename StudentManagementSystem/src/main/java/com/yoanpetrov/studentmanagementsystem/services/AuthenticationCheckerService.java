@@ -2,6 +2,9 @@ package com.yoanpetrov.studentmanagementsystem.services;
 
 import com.yoanpetrov.studentmanagementsystem.entities.UserAccount;
 import com.yoanpetrov.studentmanagementsystem.exceptions.ResourceNotFoundException;
+import com.yoanpetrov.studentmanagementsystem.security.AccountPrincipal;
+import com.yoanpetrov.studentmanagementsystem.timing.RequestPhase;
+import com.yoanpetrov.studentmanagementsystem.timing.RequestTimings;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
@@ -14,6 +17,7 @@ import org.springframework.stereotype.Service;
 public class AuthenticationCheckerService {
 
     private final UserAccountService userAccountService;
+    private final EnrollmentService enrollmentService;
 
     /**
      * Checks whether the currently authenticated {@code UserAccount}'s {@code User} has the same id as the given userId.
@@ -23,11 +27,13 @@ public class AuthenticationCheckerService {
      */
     public boolean doUserIdsMatch(Long userId) {
         log.debug("Verifying that the user is trying to modify their own information. (only for non-admins)");
-        UserAccount account = getCurrentlyAuthenticatedAccount();
-        if (account == null) {
-            return false;
+        long start = RequestTimings.start(RequestPhase.AUTHORIZATION);
+        try {
+            Long currentUserId = getCurrentlyAuthenticatedUserId();
+            return currentUserId != null && currentUserId.equals(userId);
+        } finally {
+            RequestTimings.stop(RequestPhase.AUTHORIZATION, start);
         }
-        return account.getUser().getUserId().equals(userId);
     }
 
     /**
@@ -38,29 +44,32 @@ public class AuthenticationCheckerService {
      */
     public boolean isUserEnrolledInCourse(Long courseId) {
         log.debug("Verifying that the user is trying to modify a course that they are in.");
-        UserAccount account = getCurrentlyAuthenticatedAccount();
-        if (account == null) {
-            return false;
+        long start = RequestTimings.start(RequestPhase.AUTHORIZATION);
+        try {
+            Long currentUserId = getCurrentlyAuthenticatedUserId();
+            return currentUserId != null && enrollmentService.isEnrolled(courseId, currentUserId);
+        } finally {
+            RequestTimings.stop(RequestPhase.AUTHORIZATION, start);
         }
-        return account.getUser().getCourses()
-            .stream()
-            .anyMatch((course) ->
-                course.getCourseId().equals(courseId));
     }
 
     /**
-     * Returns the {@code UserAccount} of the currently authenticated user.
+     * Returns the id of the {@code User} of the currently authenticated account.
+     * The id is taken from the {@code AccountPrincipal}, so the account is looked up only for other principals.
      *
-     * @return the account, or null if there is no authentication or the user was not found.
+     * @return the id, or null if there is no authentication, the account was not found or has no user.
      */
-    private UserAccount getCurrentlyAuthenticatedAccount() {
-        Authentication authentication = SecurityContextHolder.createEmptyContext().getAuthentication();
+    private Long getCurrentlyAuthenticatedUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null) {
             return null;
         }
-        String username = authentication.getName();
+        if (authentication.getPrincipal() instanceof AccountPrincipal principal) {
+            return principal.getUserId();
+        }
         try {
-            return userAccountService.getUserAccountByUsername(username);
+            UserAccount account = userAccountService.getUserAccountByUsername(authentication.getName());
+            return account.getUser() == null ? null : account.getUser().getUserId();
         } catch (ResourceNotFoundException e) {
             return null;
         }
@@ -6,14 +6,14 @@ import com.yoanpetrov.studentmanagementsystem.entities.UserAccount;
 import com.yoanpetrov.studentmanagementsystem.repositories.UserAccountRepository;
 import com.yoanpetrov.studentmanagementsystem.dto.UserAccountDto;
 import com.yoanpetrov.studentmanagementsystem.dto.AuthenticationResponse;
+import com.yoanpetrov.studentmanagementsystem.security.AccountPrincipal;
 import com.yoanpetrov.studentmanagementsystem.security.Role;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
@@ -27,7 +27,7 @@ public class AuthenticationService {
     private final UserAccountRepository accountRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
-    private final AuthenticationManager authenticationManager;
+    private final UserAccountService userAccountService;
 
     /**
      * Checks whether a user account exists in the database.
@@ -67,26 +67,32 @@ public class AuthenticationService {
 
     /**
      * Authenticates the given user account.
+     * The account is loaded once, through the user details cache, and the password is verified once.
+     * If the password hash was made with a lower cost than the current one, it is upgraded.
      *
      * @param userAccountDto the user's credentials.
-     * @return an {@code AuthenticationResponse} with a JWT token if the account is successfully authenticated.
+     * @return an {@code AuthenticationResponse} with a JWT token and a refresh token
+     * if the account is successfully authenticated.
      * @throws BadCredentialsException   if the password is wrong.
      * @throws ResourceNotFoundException if a user account with that username does not exist.
      */
     public AuthenticationResponse authenticateUser(UserAccountDto userAccountDto) {
-        var user = accountRepository.findByUsername(userAccountDto.getUsername())
-            .orElseThrow(() -> new ResourceNotFoundException("The user account does not exist"));
-
-        authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(
-                userAccountDto.getUsername(),
-                userAccountDto.getPassword()));
-
-        var jwtToken = jwtService.generateToken(convertToUserDetails(user));
+        UserDetails user;
+        try {
+            user = userAccountService.loadUserByUsername(userAccountDto.getUsername());
+        } catch (UsernameNotFoundException e) {
+            throw new ResourceNotFoundException("The user account does not exist");
+        }
+        if (!passwordEncoder.matches(userAccountDto.getPassword(), user.getPassword())) {
+            throw new BadCredentialsException("Bad credentials");
+        }
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user = userAccountService.updatePassword(user, passwordEncoder.encode(userAccountDto.getPassword()));
+        }
 
         return AuthenticationResponse.builder()
-            .accessToken(jwtToken)
-            .refreshToken("")
+            .accessToken(jwtService.generateToken(user))
+            .refreshToken(jwtService.generateRefreshToken(user))
             .build();
     }
 
@@ -115,10 +121,6 @@ public class AuthenticationService {
     }
 
     private UserDetails convertToUserDetails(UserAccount account) {
-        return new org.springframework.security.core.userdetails.User(
-            account.getUsername(),
-            account.getPassword(),
-            true, true, true, true,
-            account.getRole().getAuthorities());
+        return AccountPrincipal.of(account);
     }
 }
@@ -0,0 +1,70 @@
+package com.yoanpetrov.studentmanagementsystem.services;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Loads cache entries on the calling thread, outside the map of the cache.
+ * A loader given to {@code Cache.get} runs inside {@code ConcurrentHashMap.compute}, which holds a monitor,
+ * so a virtual thread querying the database there stays pinned to its carrier thread for the whole query.
+ * Here the map only holds an incomplete future while the caller loads the value, so concurrent misses
+ * for the same key park on the future instead, and the value is still loaded once.
+ */
+final class CacheLoads {
+
+    private CacheLoads() {
+    }
+
+    /**
+     * Gets the value of the given key, loading it on the calling thread on a cache miss.
+     *
+     * @param cache        the cache.
+     * @param key          the key.
+     * @param loader       loads the value of the key, never null.
+     * @param statsCounter records the hits, misses and loads.
+     * @return the value.
+     */
+    static <K, V> V get(AsyncCache<K, V> cache, K key, Function<K, V> loader, StatsCounter statsCounter) {
+        CompletableFuture<V> cached = cache.getIfPresent(key);
+        if (cached != null) {
+            statsCounter.recordHits(1);
+            return join(cached);
+        }
+        statsCounter.recordMisses(1);
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> concurrentLoad = cache.asMap().putIfAbsent(key, loading);
+        if (concurrentLoad != null) {
+            return join(concurrentLoad);
+        }
+        long start = System.nanoTime();
+        try {
+            V value = loader.apply(key);
+            statsCounter.recordLoadSuccess(System.nanoTime() - start);
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            statsCounter.recordLoadFailure(System.nanoTime() - start);
+            cache.asMap().remove(key, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Waits for the given future, rethrowing the exception of a failed load as it was thrown by the loader.
+     */
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
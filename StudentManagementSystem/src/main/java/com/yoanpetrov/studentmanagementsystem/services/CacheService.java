@@ -0,0 +1,93 @@
+package com.yoanpetrov.studentmanagementsystem.services;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.yoanpetrov.studentmanagementsystem.configurations.CacheConfiguration;
+import com.yoanpetrov.studentmanagementsystem.dto.CacheStatisticsDto;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache service. Used to inspect and clear the second-level cache and the user details cache.
+ */
+@RequiredArgsConstructor
+@Service
+public class CacheService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CacheService.class);
+
+    public static final String USER_DETAILS_REGION = "user_details";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final UserDetailsCacheService userDetailsCache;
+    private final EnrollmentIndexService enrollmentIndex;
+
+    /**
+     * Gets the hit, miss and put counts of each cache region since startup.
+     * The counts stay at zero if {@code application.cache.statistics} is disabled.
+     *
+     * @return the statistics of the entity regions, followed by the query results region and the user details cache.
+     */
+    public List<CacheStatisticsDto> getStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<CacheStatisticsDto> result = new ArrayList<>();
+        for (String region : CacheConfiguration.ENTITY_REGIONS) {
+            result.add(toDto(region, statistics.getDomainDataRegionStatistics(region)));
+        }
+        String queryRegion = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+        CacheRegionStatistics queryStatistics = statistics.getQueryRegionStatistics(queryRegion);
+        if (queryStatistics != null) {
+            result.add(toDto(queryRegion, queryStatistics));
+        }
+        result.add(toDto(USER_DETAILS_REGION, userDetailsCache.getStatistics()));
+        return result;
+    }
+
+    /**
+     * Evicts everything from the second-level cache, the user details cache and the enrollment index.
+     * Needed only after the database was changed without going through the app.
+     */
+    public void evictAll() {
+        LOG.info("Evicting all second-level cache regions");
+        entityManagerFactory.getCache().evictAll();
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+        userDetailsCache.evictAll();
+        enrollmentIndex.clear();
+    }
+
+    private static CacheStatisticsDto toDto(String region, CacheRegionStatistics statistics) {
+        return CacheStatisticsDto.builder()
+            .region(region)
+            .hitCount(statistics.getHitCount())
+            .missCount(statistics.getMissCount())
+            .putCount(statistics.getPutCount())
+            .hitRatio(hitRatio(statistics.getHitCount(), statistics.getMissCount()))
+            .build();
+    }
+
+    private static CacheStatisticsDto toDto(String region, CacheStats statistics) {
+        return CacheStatisticsDto.builder()
+            .region(region)
+            .hitCount(statistics.hitCount())
+            .missCount(statistics.missCount())
+            .putCount(statistics.loadSuccessCount())
+            .hitRatio(statistics.hitRate())
+            .averageLoadTime(statistics.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1))
+            .build();
+    }
+
+    private static double hitRatio(long hitCount, long missCount) {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
@@ -1,17 +1,31 @@
 package com.yoanpetrov.studentmanagementsystem.services;
 
+import com.yoanpetrov.studentmanagementsystem.dto.CollectionVersion;
+import com.yoanpetrov.studentmanagementsystem.dto.CourseView;
+import com.yoanpetrov.studentmanagementsystem.dto.CursorPage;
+import com.yoanpetrov.studentmanagementsystem.dto.EnrollmentResultDto;
+import com.yoanpetrov.studentmanagementsystem.dto.UserView;
+import com.yoanpetrov.studentmanagementsystem.exceptions.BadRequestException;
 import com.yoanpetrov.studentmanagementsystem.exceptions.ResourceNotFoundException;
 import com.yoanpetrov.studentmanagementsystem.entities.Course;
 import com.yoanpetrov.studentmanagementsystem.entities.User;
+import com.yoanpetrov.studentmanagementsystem.pagination.Cursor;
+import com.yoanpetrov.studentmanagementsystem.pagination.KeysetPaginator;
+import com.yoanpetrov.studentmanagementsystem.pagination.KeysetSort;
 import com.yoanpetrov.studentmanagementsystem.repositories.CourseRepository;
 import com.yoanpetrov.studentmanagementsystem.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
  * Course service. Used to perform business logic on courses.
+ * Reads return {@code CourseView}s and {@code UserView}s, so no entity is ever serialized,
+ * and the listings select them column by column without loading any entity.
  */
 @RequiredArgsConstructor
 @Service
@@ -19,40 +33,132 @@ public class CourseService {
 
     private final CourseRepository courseRepository;
     private final UserRepository userRepository;
+    private final EnrollmentService enrollmentService;
+    private final KeysetPaginator paginator;
 
     /**
      * Gets all existing courses in the database.
      *
      * @return a list of the courses, empty if no courses exist.
      */
-    public List<Course> getAllCourses() {
-        return courseRepository.findAll();
+    public List<CourseView> getAllCourses() {
+        return courseRepository.findAllViews();
     }
 
     /**
-     * Gets a single course from the database by its id.
+     * Gets a single page of the existing courses in the database.
+     *
+     * @param sort   the sort of the courses.
+     * @param cursor the cursor returned with the previous page, or null for the first page.
+     * @param size   the page size, or null for the default one.
+     * @return the page, empty if no courses exist after the cursor.
+     * @throws BadRequestException if the cursor or size are invalid.
+     */
+    public CursorPage<CourseView> getCoursesPage(KeysetSort sort, String cursor, Integer size) {
+        return paginator.paginate("courses", sort, cursor, size,
+            (after, limit) -> switch (sort) {
+                case ID -> courseRepository.findPageOrderedById(after.getLastId(), limit);
+                case NAME -> courseRepository.findPageOrderedByName(after.getLastKey(), after.getLastId(), limit);
+            },
+            course -> Cursor.after(sort, course.courseId(), course.name()));
+    }
+
+    /**
+     * Gets the ETag of a variant of the course listing, without loading any course.
+     * It changes whenever any course is created, changed or deleted,
+     * and differs between variants, so that a page is never matched against the ETag of another page.
+     *
+     * @param variant identifies the variant of the listing, such as its page and representation.
+     * @return the ETag.
+     */
+    public String getCoursesETag(String variant) {
+        CollectionVersion version = courseRepository.findCollectionVersion();
+        return "courses-" + version.count() + "-" + version.versionSum() + "-" + version.maxId()
+            + "-" + DigestUtils.md5DigestAsHex(variant.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Gets the ETag of a single course by its id, without loading the course.
+     *
+     * @param id the id of the course.
+     * @return the ETag, made of the id and the version of the course.
+     * @throws ResourceNotFoundException if the course was not found.
+     */
+    public String getCourseETag(Long id) {
+        return courseRepository.findVersionById(id)
+            .map(version -> eTagOf(id, version))
+            .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
+    }
+
+    /**
+     * Gets the ETag of the given course.
+     *
+     * @param course the course.
+     * @return the ETag, made of the id and the version of the course.
+     */
+    public String getCourseETag(CourseView course) {
+        return eTagOf(course.courseId(), course.version());
+    }
+
+    private static String eTagOf(Long id, long version) {
+        return "course-" + id + "-" + version;
+    }
+
+    /**
+     * Gets a single course by its id.
+     * The course is read through the second-level cache, so a cached course costs no query,
+     * and only its view leaves the service.
      *
      * @param id the id of the course.
      * @return the course, if it exists.
      * @throws ResourceNotFoundException if the course was not found.
      */
-    public Course getCourseById(Long id) {
+    public CourseView getCourseById(Long id) {
         return courseRepository.findById(id)
+            .map(CourseView::of)
             .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
     }
 
     /**
      * Gets all users enrolled in the given course.
+     * The existence of the course is only checked if it has no users, so a listing is a single query.
      *
      * @param id the id of the course.
      * @return a list of the users, empty if no users exist in the course.
      * @throws ResourceNotFoundException if the course was not found.
      */
-    public List<User> getAllCourseUsers(Long id) {
-        if (!existsCourse(id)) {
+    public List<UserView> getAllCourseUsers(Long id) {
+        List<UserView> users = userRepository.findViewsByCourseId(id);
+        if (users.isEmpty() && !existsCourse(id)) {
             throw new ResourceNotFoundException("Course not found");
         }
-        return userRepository.findUsersByCoursesCourseId(id);
+        return users;
+    }
+
+    /**
+     * Gets a single page of the users enrolled in the given course.
+     * The existence of the course is only checked if the page is empty, so a page is a single query.
+     *
+     * @param id     the id of the course.
+     * @param sort   the sort of the users.
+     * @param cursor the cursor returned with the previous page, or null for the first page.
+     * @param size   the page size, or null for the default one.
+     * @return the page, empty if no users exist in the course after the cursor.
+     * @throws ResourceNotFoundException if the course was not found.
+     * @throws BadRequestException if the cursor or size are invalid.
+     */
+    public CursorPage<UserView> getCourseUsersPage(Long id, KeysetSort sort, String cursor, Integer size) {
+        CursorPage<UserView> page = paginator.paginate("courses/" + id + "/users", sort, cursor, size,
+            (after, limit) -> switch (sort) {
+                case ID -> userRepository.findCoursePageOrderedById(id, after.getLastId(), limit);
+                case NAME -> userRepository.findCoursePageOrderedByLastName(
+                    id, after.getLastKey(), after.getLastId(), limit);
+            },
+            user -> Cursor.after(sort, user.userId(), user.lastName()));
+        if (page.getItems().isEmpty() && !existsCourse(id)) {
+            throw new ResourceNotFoundException("Course not found");
+        }
+        return page;
     }
 
     /**
@@ -74,13 +180,20 @@ public class CourseService {
      * @throws ResourceNotFoundException if the user or course were not found.
      */
     public User addUserToCourse(Long courseId, Long userId) {
-        Course course = courseRepository.findById(courseId)
-            .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        course.addUser(user);
-        courseRepository.save(course);
-        return user;
+        return enrollmentService.enroll(courseId, userId).getUser();
+    }
+
+    /**
+     * Adds the given users to the course with the given id in a single transaction.
+     * Users are enrolled in the given order until the course gets full.
+     *
+     * @param courseId the id of the course.
+     * @param userIds  the ids of the users to be added to the course, duplicates are ignored.
+     * @return the outcome for each distinct user id, in the given order.
+     * @throws ResourceNotFoundException if the course was not found.
+     */
+    public List<EnrollmentResultDto> addUsersToCourse(Long courseId, List<Long> userIds) {
+        return enrollmentService.enrollAll(courseId, userIds);
     }
 
     /**
@@ -104,8 +217,10 @@ public class CourseService {
     /**
      * Deletes all courses.
      */
+    @Transactional
     public void deleteAllCourses() {
-        courseRepository.deleteAll();
+        enrollmentService.unenrollAll();
+        courseRepository.deleteAllInBatch();
     }
 
     /**
@@ -114,10 +229,12 @@ public class CourseService {
      * @param id the id of the course.
      * @throws ResourceNotFoundException if the course was not found.
      */
+    @Transactional
     public void deleteCourse(Long id) {
         if (!existsCourse(id)) {
             throw new ResourceNotFoundException("Course not found");
         }
+        enrollmentService.unenrollAllFromCourse(id);
         courseRepository.deleteById(id);
     }
 
@@ -130,13 +247,7 @@ public class CourseService {
      * @throws ResourceNotFoundException if the user or course were not found.
      */
     public User removeUserFromCourse(Long courseId, Long userId) {
-        Course course = courseRepository.findById(courseId)
-            .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        course.removeUser(user);
-        courseRepository.save(course);
-        return user;
+        return enrollmentService.unenroll(courseId, userId).getUser();
     }
 
     /**
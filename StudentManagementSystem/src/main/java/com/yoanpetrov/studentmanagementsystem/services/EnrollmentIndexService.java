@@ -0,0 +1,182 @@
+package com.yoanpetrov.studentmanagementsystem.services;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import com.yoanpetrov.studentmanagementsystem.repositories.EnrollmentRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.UnaryOperator;
+
+/**
+ * Enrollment index service. Keeps the ids of the courses of recently checked users in memory,
+ * so that membership checks do not query the database.
+ * Each user's course ids are held in a sorted {@code long[]} that is replaced, never modified,
+ * and changes are applied only after the transaction making them commits.
+ * The course ids are loaded outside the map of the cache, see {@code CacheLoads}.
+ */
+@RequiredArgsConstructor
+@Service
+public class EnrollmentIndexService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(EnrollmentIndexService.class);
+
+    private final EnrollmentRepository enrollmentRepository;
+
+    @Value("${application.enrollment-index.maximum-size:100000}")
+    private long maximumSize;
+
+    private AsyncCache<Long, long[]> courseIdsByUserId;
+
+    @PostConstruct
+    void init() {
+        courseIdsByUserId = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .buildAsync();
+    }
+
+    /**
+     * Checks whether the given user is enrolled in the given course.
+     * The user's course ids are loaded with a single query the first time the user is checked.
+     *
+     * @param courseId the id of the course.
+     * @param userId   the id of the user.
+     * @return true if the user is enrolled in the course, false otherwise.
+     */
+    public boolean isEnrolled(long courseId, long userId) {
+        long[] courseIds = CacheLoads.get(
+            courseIdsByUserId, userId, this::loadCourseIds, StatsCounter.disabledStatsCounter());
+        return Arrays.binarySearch(courseIds, courseId) >= 0;
+    }
+
+    /**
+     * Records the enrollment of the given users in the given course once the current transaction commits.
+     *
+     * @param courseId the id of the course.
+     * @param userIds  the ids of the users.
+     */
+    public void enrolled(long courseId, Collection<Long> userIds) {
+        afterCommit(() -> {
+            for (Long userId : userIds) {
+                update(userId, courseIds -> with(courseIds, courseId));
+            }
+        });
+    }
+
+    /**
+     * Records the removal of the given user from the given course once the current transaction commits.
+     *
+     * @param courseId the id of the course.
+     * @param userId   the id of the user.
+     */
+    public void unenrolled(long courseId, long userId) {
+        afterCommit(() -> update(userId, courseIds -> without(courseIds, courseId)));
+    }
+
+    /**
+     * Records the removal of all users from the given course once the current transaction commits.
+     *
+     * @param courseId the id of the course.
+     */
+    public void courseCleared(long courseId) {
+        afterCommit(() -> {
+            for (Long userId : courseIdsByUserId.asMap().keySet()) {
+                update(userId, courseIds -> without(courseIds, courseId));
+            }
+        });
+    }
+
+    /**
+     * Records the removal of the given user from all courses once the current transaction commits.
+     *
+     * @param userId the id of the user.
+     */
+    public void userCleared(long userId) {
+        afterCommit(() -> courseIdsByUserId.synchronous().invalidate(userId));
+    }
+
+    /**
+     * Drops the whole index once the current transaction commits.
+     */
+    public void clear() {
+        afterCommit(() -> {
+            LOG.debug("Clearing the enrollment index");
+            courseIdsByUserId.synchronous().invalidateAll();
+        });
+    }
+
+    private long[] loadCourseIds(Long userId) {
+        LOG.debug("Loading the course ids of user {} into the enrollment index", userId);
+        return enrollmentRepository.findCourseIdsByUserId(userId).stream()
+            .mapToLong(Long::longValue)
+            .sorted()
+            .toArray();
+    }
+
+    /**
+     * Replaces the course ids of the given user, if they are indexed.
+     * Course ids that are still being loaded are dropped instead, as they may have been read before the change.
+     *
+     * @param userId the id of the user.
+     * @param change the change to the course ids.
+     */
+    private void update(Long userId, UnaryOperator<long[]> change) {
+        courseIdsByUserId.asMap().computeIfPresent(userId, (id, courseIds) ->
+            courseIds.isDone() && !courseIds.isCompletedExceptionally()
+                ? CompletableFuture.completedFuture(change.apply(courseIds.join()))
+                : null);
+    }
+
+    private static long[] with(long[] courseIds, long courseId) {
+        int index = Arrays.binarySearch(courseIds, courseId);
+        if (index >= 0) {
+            return courseIds;
+        }
+        int insertionPoint = -index - 1;
+        long[] result = new long[courseIds.length + 1];
+        System.arraycopy(courseIds, 0, result, 0, insertionPoint);
+        result[insertionPoint] = courseId;
+        System.arraycopy(courseIds, insertionPoint, result, insertionPoint + 1, courseIds.length - insertionPoint);
+        return result;
+    }
+
+    private static long[] without(long[] courseIds, long courseId) {
+        int index = Arrays.binarySearch(courseIds, courseId);
+        if (index < 0) {
+            return courseIds;
+        }
+        long[] result = new long[courseIds.length - 1];
+        System.arraycopy(courseIds, 0, result, 0, index);
+        System.arraycopy(courseIds, index + 1, result, index, courseIds.length - index - 1);
+        return result;
+    }
+
+    /**
+     * Runs the given change after the current transaction commits, or right away if there is no transaction.
+     * A rolled back transaction leaves the index as it was.
+     *
+     * @param change the change to the index.
+     */
+    private static void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
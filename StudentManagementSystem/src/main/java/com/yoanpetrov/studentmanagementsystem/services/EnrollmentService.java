@@ -0,0 +1,246 @@
+package com.yoanpetrov.studentmanagementsystem.services;
+
+import com.yoanpetrov.studentmanagementsystem.dto.EnrollmentResultDto;
+import com.yoanpetrov.studentmanagementsystem.dto.EnrollmentStatus;
+import com.yoanpetrov.studentmanagementsystem.entities.Course;
+import com.yoanpetrov.studentmanagementsystem.entities.Enrollment;
+import com.yoanpetrov.studentmanagementsystem.entities.EnrollmentId;
+import com.yoanpetrov.studentmanagementsystem.entities.User;
+import com.yoanpetrov.studentmanagementsystem.exceptions.ResourceConflictException;
+import com.yoanpetrov.studentmanagementsystem.exceptions.ResourceNotFoundException;
+import com.yoanpetrov.studentmanagementsystem.repositories.CourseRepository;
+import com.yoanpetrov.studentmanagementsystem.repositories.EnrollmentRepository;
+import com.yoanpetrov.studentmanagementsystem.repositories.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Enrollment service. Used to enroll users in courses and remove them from courses,
+ * keeping the number of students of each course and the enrollment index in sync with its enrollments.
+ */
+@RequiredArgsConstructor
+@Service
+public class EnrollmentService {
+
+    private static final String TAKE_SEAT = """
+        update courses set number_of_students = number_of_students + 1, version = version + 1
+        where course_id = ? and number_of_students < max_capacity""";
+    private static final String TAKE_SEATS = """
+        update courses set number_of_students = number_of_students + ?, version = version + 1
+        where course_id = ?""";
+    private static final String RELEASE_SEAT = """
+        update courses set number_of_students = number_of_students - 1, version = version + 1
+        where course_id = ? and number_of_students > 0""";
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseRepository courseRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EnrollmentIndexService enrollmentIndex;
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Checks whether the given user is enrolled in the given course.
+     * Answered from the enrollment index, without querying the database once the user was checked before.
+     *
+     * @param courseId the id of the course.
+     * @param userId   the id of the user.
+     * @return true if the user is enrolled in the course, false otherwise.
+     */
+    public boolean isEnrolled(Long courseId, Long userId) {
+        return enrollmentIndex.isEnrolled(courseId, userId);
+    }
+
+    /**
+     * Enrolls the given user in the given course.
+     *
+     * @param courseId the id of the course.
+     * @param userId   the id of the user.
+     * @return the new enrollment.
+     * @throws ResourceNotFoundException if the user or course were not found.
+     * @throws ResourceConflictException if the course is full or if the user is already enrolled in it.
+     */
+    @Transactional
+    public Enrollment enroll(Long courseId, Long userId) {
+        User user = findUser(userId);
+        // Checked against the database, as the index may not have seen an enrollment that is not committed yet
+        if (enrollmentRepository.findById(new EnrollmentId(courseId, userId)).isPresent()) {
+            throw new ResourceConflictException("The user already exists in the course");
+        }
+        // The seat is taken by a single conditional update, so concurrent enrollments
+        // can never take more seats than the course has
+        if (changeSeats(TAKE_SEAT, courseId, courseId) == 0) {
+            findCourse(courseId);
+            throw new ResourceConflictException("The course is full");
+        }
+        Course course = findCourse(courseId);
+        try {
+            Enrollment enrollment = enrollmentRepository.saveAndFlush(Enrollment.of(course, user));
+            enrollmentIndex.enrolled(courseId, List.of(userId));
+            return enrollment;
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent request enrolled the same user first, the seat is given back on rollback
+            throw new ResourceConflictException("The user already exists in the course");
+        }
+    }
+
+    /**
+     * Enrolls the given users in the given course.
+     * The course is locked for the duration of the enrollment, its capacity is checked once,
+     * and the new enrollments are written as a single batch.
+     * Users are enrolled in the given order until the course gets full.
+     *
+     * @param courseId the id of the course.
+     * @param userIds  the ids of the users, duplicates are ignored.
+     * @return the outcome for each distinct user id, in the given order.
+     * @throws ResourceNotFoundException if the course was not found.
+     */
+    @Transactional
+    public List<EnrollmentResultDto> enrollAll(Long courseId, List<Long> userIds) {
+        Course course = courseRepository.findByIdForUpdate(courseId)
+            .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
+        Set<Long> distinctIds = new LinkedHashSet<>(userIds);
+        Set<Long> existingIds = new HashSet<>(userRepository.findExistingUserIds(distinctIds));
+        Set<Long> enrolledIds = new HashSet<>(enrollmentRepository.findEnrolledUserIds(courseId, distinctIds));
+        int freeSeats = course.getMaxCapacity() - course.getNumberOfStudents();
+
+        List<EnrollmentResultDto> results = new ArrayList<>(distinctIds.size());
+        List<Object[]> newEnrollments = new ArrayList<>();
+        List<Long> addedIds = new ArrayList<>();
+        Timestamp enrolledAt = Timestamp.from(Instant.now());
+        for (Long userId : distinctIds) {
+            EnrollmentStatus status;
+            if (!existingIds.contains(userId)) {
+                status = EnrollmentStatus.NOT_FOUND;
+            } else if (enrolledIds.contains(userId)) {
+                status = EnrollmentStatus.ALREADY_ENROLLED;
+            } else if (freeSeats <= 0) {
+                status = EnrollmentStatus.COURSE_FULL;
+            } else {
+                status = EnrollmentStatus.ADDED;
+                newEnrollments.add(new Object[]{courseId, userId, enrolledAt});
+                addedIds.add(userId);
+                freeSeats--;
+            }
+            results.add(new EnrollmentResultDto(userId, status));
+        }
+        if (!newEnrollments.isEmpty()) {
+            // Inserted past Hibernate, which is safe for the second-level cache:
+            // absent enrollments are never cached, and no cached query reads the enrollments table
+            jdbcTemplate.batchUpdate(
+                "insert into students_courses_enrollments (course_id, user_id, enrolled_at) values (?, ?, ?)",
+                newEnrollments);
+            changeSeats(TAKE_SEATS, courseId, newEnrollments.size(), courseId);
+            enrollmentIndex.enrolled(courseId, addedIds);
+        }
+        return results;
+    }
+
+    /**
+     * Removes the given user from the given course.
+     *
+     * @param courseId the id of the course.
+     * @param userId   the id of the user.
+     * @return the removed enrollment.
+     * @throws ResourceNotFoundException if the user or course were not found.
+     * @throws ResourceConflictException if the user is not enrolled in the course.
+     */
+    @Transactional
+    public Enrollment unenroll(Long courseId, Long userId) {
+        User user = findUser(userId);
+        if (enrollmentRepository.deleteEnrollment(courseId, userId) == 0) {
+            findCourse(courseId);
+            throw new ResourceConflictException("The user is not present in the course");
+        }
+        changeSeats(RELEASE_SEAT, courseId, courseId);
+        enrollmentIndex.unenrolled(courseId, userId);
+        return Enrollment.of(findCourse(courseId), user);
+    }
+
+    /**
+     * Removes all enrollments of the given course.
+     *
+     * @param courseId the id of the course.
+     */
+    @Transactional
+    public void unenrollAllFromCourse(Long courseId) {
+        enrollmentRepository.deleteAllByCourseId(courseId);
+        enrollmentIndex.courseCleared(courseId);
+    }
+
+    /**
+     * Removes the given user from all of their courses, freeing their seats.
+     *
+     * @param userId the id of the user.
+     */
+    @Transactional
+    public void unenrollUserFromAllCourses(Long userId) {
+        courseRepository.releaseSeatsOfUser(userId);
+        enrollmentRepository.deleteAllByUserId(userId);
+        enrollmentIndex.userCleared(userId);
+    }
+
+    /**
+     * Removes all enrollments of all courses.
+     */
+    @Transactional
+    public void unenrollAll() {
+        courseRepository.releaseAllSeats();
+        enrollmentRepository.deleteAllInBatch();
+        enrollmentIndex.clear();
+    }
+
+    /**
+     * Changes the seats of a single course with the given statement, and evicts only that course
+     * from the second-level cache. The statement is run past Hibernate, as a bulk update through it
+     * would evict every course from the cache.
+     * The course is evicted right away, so that the transaction reads its new seats,
+     * and again once the transaction completes, dropping whatever was cached before the change was visible.
+     *
+     * @param sql      the update statement.
+     * @param courseId the id of the course.
+     * @param args     the arguments of the statement.
+     * @return the number of updated rows, 0 if the condition of the statement did not hold.
+     */
+    private int changeSeats(String sql, Long courseId, Object... args) {
+        int updated = jdbcTemplate.update(sql, args);
+        evictCourse(courseId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictCourse(courseId);
+                }
+            });
+        }
+        return updated;
+    }
+
+    private void evictCourse(Long courseId) {
+        entityManagerFactory.getCache().evict(Course.class, courseId);
+    }
+
+    private Course findCourse(Long courseId) {
+        return courseRepository.findById(courseId)
+            .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
+    }
+
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
+            .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+}
@@ -0,0 +1,113 @@
+package com.yoanpetrov.studentmanagementsystem.services;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.yoanpetrov.studentmanagementsystem.repositories.CourseRepository;
+import com.yoanpetrov.studentmanagementsystem.repositories.EnrollmentRepository;
+import com.yoanpetrov.studentmanagementsystem.repositories.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Export service. Used to stream whole tables as newline-delimited JSON (NDJSON).
+ * Rows are read from a database cursor and written one by one, so memory usage stays flat
+ * regardless of the number of rows.
+ */
+@RequiredArgsConstructor
+@Service
+public class ExportService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ExportService.class);
+
+    /**
+     * The number of rows after which the output is flushed and the persistence context is cleared.
+     */
+    private static final int CHUNK_SIZE = 500;
+
+    private final UserRepository userRepository;
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Writes all users to the given stream, one JSON object per line.
+     * The users are read as views, so their accounts are never loaded.
+     *
+     * @param out the stream to write to.
+     * @throws IOException if writing to the stream fails.
+     */
+    @Transactional(readOnly = true)
+    public void exportUsers(OutputStream out) throws IOException {
+        LOG.debug("Exporting all users");
+        try (Stream<?> users = userRepository.streamAllViewsOrderedById()) {
+            writeNdjson(users, out);
+        }
+    }
+
+    /**
+     * Writes all courses to the given stream, one JSON object per line.
+     *
+     * @param out the stream to write to.
+     * @throws IOException if writing to the stream fails.
+     */
+    @Transactional(readOnly = true)
+    public void exportCourses(OutputStream out) throws IOException {
+        LOG.debug("Exporting all courses");
+        try (Stream<?> courses = courseRepository.streamAllOrderedById()) {
+            writeNdjson(courses, out);
+        }
+    }
+
+    /**
+     * Writes all enrollments to the given stream, one JSON object per line.
+     *
+     * @param out the stream to write to.
+     * @throws IOException if writing to the stream fails.
+     */
+    @Transactional(readOnly = true)
+    public void exportEnrollments(OutputStream out) throws IOException {
+        LOG.debug("Exporting all enrollments");
+        try (Stream<?> enrollments = enrollmentRepository.streamAll()) {
+            writeNdjson(enrollments, out);
+        }
+    }
+
+    /**
+     * Writes the rows of the stream as NDJSON, flushing the output and detaching the written entities
+     * after each chunk, so that neither the response buffer nor the persistence context grow with the table.
+     *
+     * @param rows the rows to write.
+     * @param out  the stream to write to.
+     * @throws IOException if writing to the stream fails.
+     */
+    private void writeNdjson(Stream<?> rows, OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Flushed once per chunk below, instead of after every row
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long written = 0;
+        Iterator<?> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            writer.writeValue(generator, iterator.next());
+            generator.writeRaw('\n');
+            if (++written % CHUNK_SIZE == 0) {
+                generator.flush();
+                entityManager.clear();
+            }
+        }
+        generator.flush();
+        LOG.debug("Exported {} rows", written);
+    }
+}
@@ -1,36 +1,85 @@
 package com.yoanpetrov.studentmanagementsystem.services;
 
+import com.yoanpetrov.studentmanagementsystem.security.AccountPrincipal;
+import com.yoanpetrov.studentmanagementsystem.security.Role;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 /**
  * JWT service. Used to extract different claims from a JWT token or validate it.
+ * The signing key and parser are built once, and the claims of verified tokens are cached
+ * until the tokens expire, so a token that was seen before is not verified again.
+ * Tokens generated for an {@code AccountPrincipal} also carry its role, authorities, account id and user id,
+ * so that requests can be authenticated from the token alone.
+ * Every token carries its issue time in milliseconds, as the standard {@code iat} claim only holds whole seconds.
  */
 @Service
 public class JwtService {
 
     private static final Logger LOG = LoggerFactory.getLogger(JwtService.class);
 
+    private static final String ROLE_CLAIM = "role";
+    private static final String AUTHORITIES_CLAIM = "authorities";
+    private static final String ACCOUNT_ID_CLAIM = "accountId";
+    private static final String USER_ID_CLAIM = "userId";
+    private static final String ISSUED_AT_MILLIS_CLAIM = "iatMillis";
+
     @Value("${application.security.jwt.secret-key}")
     private String secretKey;
     @Value("${application.security.jwt.expiration}")
     private long jwtExpiration;
     @Value("${application.security.jwt.refresh-token.expiration}")
     private long refreshExpiration;
+    @Value("${application.security.jwt.claims-cache-size:10000}")
+    private long claimsCacheSize;
+
+    private Key signingKey;
+    private JwtParser jwtParser;
+    /**
+     * The claims of verified tokens, keyed by the SHA-256 digest of the token.
+     * Each entry is evicted when its token expires.
+     */
+    private Cache<String, Claims> claimsCache;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        jwtParser = Jwts.parserBuilder()
+            .setSigningKey(signingKey)
+            .build();
+        claimsCache = Caffeine.newBuilder()
+            .maximumSize(claimsCacheSize)
+            .expireAfter(new TokenExpiry())
+            .build();
+    }
 
     /**
      * Validates whether a JWT token represents the correct user.
@@ -40,10 +89,20 @@ public class JwtService {
      * @return true if the token is not expired and represents the same user, false otherwise.
      */
     public boolean validateToken(String token, UserDetails userDetails) {
-        LOG.debug("Validating token {} against user {}", token, userDetails.getUsername());
-        final String username = extractUsername(token);
-        return username.equals(userDetails.getUsername())
-            && !isTokenExpired(token);
+        return validateToken(extractAllClaims(token), userDetails);
+    }
+
+    /**
+     * Validates whether the claims of a verified JWT token represent the correct user.
+     *
+     * @param claims      the claims of the token.
+     * @param userDetails the user to validate the token against.
+     * @return true if the token is not expired and represents the same user, false otherwise.
+     */
+    public boolean validateToken(Claims claims, UserDetails userDetails) {
+        LOG.debug("Validating token of {} against user {}", claims.getSubject(), userDetails.getUsername());
+        return claims.getSubject().equals(userDetails.getUsername())
+            && !claims.getExpiration().before(new Date());
     }
 
     /**
@@ -56,6 +115,47 @@ public class JwtService {
         return extractClaim(token, Claims::getSubject);
     }
 
+    /**
+     * Builds the principal described by the claims of a verified JWT token, without loading its account.
+     *
+     * @param claims the claims of the token.
+     * @return the principal, without a password, or null if the token does not carry the principal claims.
+     */
+    public AccountPrincipal extractPrincipal(Claims claims) {
+        String role = claims.get(ROLE_CLAIM, String.class);
+        List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+        Long accountId = claims.get(ACCOUNT_ID_CLAIM, Long.class);
+        if (claims.getSubject() == null || role == null || authorities == null || accountId == null) {
+            return null;
+        }
+        List<GrantedAuthority> grantedAuthorities = authorities.stream()
+            .map(authority -> (GrantedAuthority) new SimpleGrantedAuthority(authority.toString()))
+            .toList();
+        return new AccountPrincipal(
+            accountId,
+            claims.get(USER_ID_CLAIM, Long.class),
+            claims.getSubject(),
+            null,
+            Role.valueOf(role),
+            grantedAuthorities);
+    }
+
+    /**
+     * Gets the issue time of a verified JWT token in milliseconds.
+     * Tokens that do not carry it fall back to their {@code iat} claim, which is truncated to whole seconds.
+     *
+     * @param claims the claims of the token.
+     * @return the issue time in milliseconds since the epoch, or null if the token does not carry one.
+     */
+    public static Long extractIssuedAtMillis(Claims claims) {
+        Long issuedAtMillis = claims.get(ISSUED_AT_MILLIS_CLAIM, Long.class);
+        if (issuedAtMillis != null) {
+            return issuedAtMillis;
+        }
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null ? null : issuedAt.getTime();
+    }
+
     /**
      * Extract a claim from the JWT token, using the given claim resolver.
      *
@@ -109,38 +209,46 @@ public class JwtService {
     }
 
     /**
-     * Checks whether a JWT token has expired.
+     * Extracts all the claims from a JWT token, verifying it only if it is not in the claims cache.
      *
      * @param token the token.
-     * @return true if the token's expiration time was before the current time, false otherwise.
+     * @return the extracted {@code Claims}.
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, expired, has no expiration time
+     *                                      or its signature is invalid.
      */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public Claims extractAllClaims(String token) {
+        return claimsCache.get(digest(token), d -> verify(token));
     }
 
     /**
-     * Extracts the expiration time of a JWT token.
+     * Verifies a JWT token. Tokens without an expiration time are rejected, as they could never be evicted
+     * from the claims cache and every token issued here has one.
      *
      * @param token the token.
-     * @return the {@code Date} object, representing the exact time of expiration.
+     * @return the verified {@code Claims}.
+     * @throws io.jsonwebtoken.JwtException if the token is invalid.
      */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private Claims verify(String token) {
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+        if (claims.getExpiration() == null) {
+            throw new MalformedJwtException("The JWT token has no expiration time");
+        }
+        return claims;
     }
 
     /**
-     * Extracts all the claims from a JWT token.
+     * Computes the cache key of a token, so that the cache does not keep the tokens themselves.
      *
      * @param token the token.
-     * @return the extracted {@code Claims}.
+     * @return the hex-encoded SHA-256 digest of the token.
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts
-            .parserBuilder()
-            .setSigningKey(getSigningKey())
-            .build()
-            .parseClaimsJws(token)
-            .getBody();
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
     }
 
     /**
@@ -157,24 +265,49 @@ public class JwtService {
         long expiration
     ) {
         LOG.debug("Building JWT token for {} with expiration time of {} ms", userDetails.getUsername(), expiration);
+        long now = System.currentTimeMillis();
+        Map<String, Object> claims = new HashMap<>(extraClaims);
+        claims.put(ISSUED_AT_MILLIS_CLAIM, now);
+        if (userDetails instanceof AccountPrincipal principal) {
+            claims.put(ROLE_CLAIM, principal.getRole().name());
+            claims.put(AUTHORITIES_CLAIM, principal.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+            claims.put(ACCOUNT_ID_CLAIM, principal.getAccountId());
+            if (principal.getUserId() != null) {
+                claims.put(USER_ID_CLAIM, principal.getUserId());
+            }
+        }
         return Jwts
             .builder()
-            .setClaims(extraClaims)
+            .setClaims(claims)
             .setSubject(userDetails.getUsername())
-            .setIssuedAt(new Date())
-            .setExpiration(new Date(System.currentTimeMillis() + expiration))
-            .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+            .setIssuedAt(new Date(now))
+            .setExpiration(new Date(now + expiration))
+            .signWith(signingKey, SignatureAlgorithm.HS256)
             .compact();
 
     }
 
     /**
-     * Gets the signing key for the JWT tokens.
-     *
-     * @return the newly created {@code Key}.
+     * Expires each cached claims entry at the expiration time of its token, which {@code verify} guarantees.
      */
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static class TokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String digest, Claims claims, long currentTime) {
+            return Math.max(0, TimeUnit.MILLISECONDS.toNanos(
+                claims.getExpiration().getTime() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String digest, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
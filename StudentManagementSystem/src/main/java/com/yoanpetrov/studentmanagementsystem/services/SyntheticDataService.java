@@ -0,0 +1,269 @@
+package com.yoanpetrov.studentmanagementsystem.services;
+
+import com.yoanpetrov.studentmanagementsystem.entities.Course;
+import com.yoanpetrov.studentmanagementsystem.entities.User;
+import com.yoanpetrov.studentmanagementsystem.entities.UserAccount;
+import com.yoanpetrov.studentmanagementsystem.security.Role;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Synthetic data service. Used to fill the database with production-sized, generated data:
+ * users with their accounts, courses, and enrollments whose course popularity follows a Zipf distribution.
+ * Everything generated depends only on the settings, so the same seed always gives the same data.
+ * All accounts share one password, hashed once, and rows are inserted as JDBC batches.
+ */
+@RequiredArgsConstructor
+@Service
+public class SyntheticDataService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SyntheticDataService.class);
+
+    private static final int BATCH_SIZE = 1000;
+    private static final Instant ENROLLMENT_PERIOD_START = Instant.parse("2024-09-01T00:00:00Z");
+    private static final long ENROLLMENT_PERIOD_SECONDS = TimeUnit.DAYS.toSeconds(30);
+    /**
+     * The share of the generated accounts that are teachers', the rest are students'.
+     */
+    private static final double TEACHER_RATIO = 0.02;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final CacheService cacheService;
+
+    /**
+     * The settings of a generation.
+     *
+     * @param users                  the number of users, each with an account named {@code user<n>}.
+     * @param courses                the number of courses.
+     * @param averageCoursesPerUser  the average number of courses each user is enrolled in.
+     * @param popularitySkew         the Zipf exponent of course popularity, 0 for uniform.
+     * @param password               the password of all generated accounts.
+     * @param seed                   the random seed.
+     */
+    public record Settings(
+        int users,
+        int courses,
+        double averageCoursesPerUser,
+        double popularitySkew,
+        String password,
+        long seed
+    ) {
+    }
+
+    /**
+     * Generates and inserts the data described by the given settings.
+     *
+     * @param settings the settings.
+     */
+    public void generate(Settings settings) {
+        LOG.info("Generating {} users and {} courses with seed {}", settings.users(), settings.courses(), settings.seed());
+        long start = System.nanoTime();
+        EnrollmentSampler sampler = new EnrollmentSampler(settings);
+
+        // Enrollments are sampled twice from the same seed: once to size the courses, once to insert them,
+        // so that they never have to be held in memory
+        int[] studentsPerCourse = new int[settings.courses()];
+        for (int user = 0; user < settings.users(); user++) {
+            for (int course : sampler.coursesOf(user)) {
+                studentsPerCourse[course]++;
+            }
+        }
+
+        long[] userIds = insertUsers(settings);
+        long[] courseIds = insertCourses(settings, studentsPerCourse);
+        long enrollmentCount = insertEnrollments(settings, sampler, userIds, courseIds);
+        jdbcTemplate.batchUpdate(
+            "update courses set number_of_students = ?, version = version + 1 where course_id = ?",
+            toRows(courseIds, studentsPerCourse));
+        cacheService.evictAll();
+
+        LOG.info("Generated {} users, {} courses and {} enrollments in {} s",
+            userIds.length, courseIds.length, enrollmentCount,
+            TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+    }
+
+    private long[] insertUsers(Settings settings) {
+        String passwordHash = passwordEncoder.encode(settings.password());
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        long[] userIds = new long[settings.users()];
+        for (int from = 0; from < settings.users(); from += BATCH_SIZE) {
+            List<UserAccount> accounts = new ArrayList<>(BATCH_SIZE);
+            for (int i = from; i < Math.min(from + BATCH_SIZE, settings.users()); i++) {
+                accounts.add(UserAccount.builder()
+                    .username("user" + i)
+                    .password(passwordHash)
+                    .role(random.nextDouble() < TEACHER_RATIO ? Role.TEACHER : Role.STUDENT)
+                    .user(User.builder()
+                        .firstName("First" + i)
+                        .lastName("Last" + i)
+                        .email("user" + i + "@example.com")
+                        .build())
+                    .build());
+            }
+            persistAll(accounts);
+            for (int i = 0; i < accounts.size(); i++) {
+                userIds[from + i] = accounts.get(i).getUser().getUserId();
+            }
+        }
+        LOG.debug("Inserted {} users", userIds.length);
+        return userIds;
+    }
+
+    private long[] insertCourses(Settings settings, int[] studentsPerCourse) {
+        long[] courseIds = new long[settings.courses()];
+        for (int from = 0; from < settings.courses(); from += BATCH_SIZE) {
+            List<Course> courses = new ArrayList<>(BATCH_SIZE);
+            for (int i = from; i < Math.min(from + BATCH_SIZE, settings.courses()); i++) {
+                courses.add(Course.builder()
+                    .name("Course " + i)
+                    .description("Generated course " + i)
+                    .maxCapacity(Math.max(10, studentsPerCourse[i] + studentsPerCourse[i] / 10))
+                    .build());
+            }
+            persistAll(courses);
+            for (int i = 0; i < courses.size(); i++) {
+                courseIds[from + i] = courses.get(i).getCourseId();
+            }
+        }
+        LOG.debug("Inserted {} courses", courseIds.length);
+        return courseIds;
+    }
+
+    private long insertEnrollments(Settings settings, EnrollmentSampler sampler, long[] userIds, long[] courseIds) {
+        SplittableRandom random = new SplittableRandom(settings.seed());
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        long count = 0;
+        for (int user = 0; user < settings.users(); user++) {
+            for (int course : sampler.coursesOf(user)) {
+                Timestamp enrolledAt = Timestamp.from(
+                    ENROLLMENT_PERIOD_START.plusSeconds(random.nextLong(ENROLLMENT_PERIOD_SECONDS)));
+                batch.add(new Object[]{courseIds[course], userIds[user], enrolledAt});
+                if (batch.size() == BATCH_SIZE) {
+                    count += insertEnrollmentBatch(batch);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            count += insertEnrollmentBatch(batch);
+        }
+        LOG.debug("Inserted {} enrollments", count);
+        return count;
+    }
+
+    private int insertEnrollmentBatch(List<Object[]> batch) {
+        jdbcTemplate.batchUpdate(
+            "insert into students_courses_enrollments (course_id, user_id, enrolled_at) values (?, ?, ?)",
+            batch);
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    /**
+     * Persists the given entities in a transaction of their own, as JDBC batches,
+     * bypassing the second-level cache.
+     *
+     * @param entities the entities.
+     */
+    private void persistAll(List<?> entities) {
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+            entities.forEach(entityManager::persist);
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    private static List<Object[]> toRows(long[] courseIds, int[] studentsPerCourse) {
+        List<Object[]> rows = new ArrayList<>(courseIds.length);
+        for (int i = 0; i < courseIds.length; i++) {
+            rows.add(new Object[]{studentsPerCourse[i], courseIds[i]});
+        }
+        return rows;
+    }
+
+    /**
+     * Samples the courses of each user. The number of courses of a user is geometrically distributed
+     * around the average, and each course is drawn with a probability proportional to {@code 1 / rank^skew}.
+     * The courses of a user depend only on the seed and the user's index.
+     */
+    private static class EnrollmentSampler {
+
+        private final long seed;
+        private final int courseCount;
+        private final double averageCoursesPerUser;
+        private final int maxCoursesPerUser;
+        private final double[] cumulativeWeights;
+
+        EnrollmentSampler(Settings settings) {
+            this.seed = settings.seed();
+            this.courseCount = settings.courses();
+            this.averageCoursesPerUser = Math.max(1, settings.averageCoursesPerUser());
+            this.maxCoursesPerUser = (int) Math.min(courseCount, Math.ceil(averageCoursesPerUser * 4));
+            this.cumulativeWeights = new double[courseCount];
+            double total = 0;
+            for (int rank = 0; rank < courseCount; rank++) {
+                total += 1 / Math.pow(rank + 1, settings.popularitySkew());
+                cumulativeWeights[rank] = total;
+            }
+        }
+
+        int[] coursesOf(int user) {
+            if (courseCount == 0) {
+                return new int[0];
+            }
+            SplittableRandom random = new SplittableRandom(seed * 31 + user);
+            int count = Math.min(maxCoursesPerUser, 1 + geometric(random, 1 / averageCoursesPerUser));
+            int[] courses = new int[count];
+            int drawn = 0;
+            while (drawn < count) {
+                int course = drawCourse(random);
+                if (!contains(courses, drawn, course)) {
+                    courses[drawn++] = course;
+                }
+            }
+            return courses;
+        }
+
+        private int drawCourse(SplittableRandom random) {
+            double target = random.nextDouble() * cumulativeWeights[courseCount - 1];
+            int index = Arrays.binarySearch(cumulativeWeights, target);
+            return Math.min(courseCount - 1, index >= 0 ? index : -index - 1);
+        }
+
+        private static int geometric(SplittableRandom random, double p) {
+            if (p >= 1) {
+                return 0;
+            }
+            return (int) (Math.log(1 - random.nextDouble()) / Math.log(1 - p));
+        }
+
+        private static boolean contains(int[] values, int length, int value) {
+            for (int i = 0; i < length; i++) {
+                if (values[i] == value) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.yoanpetrov.studentmanagementsystem.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yoanpetrov.studentmanagementsystem.entities.TokenRevocation;
+import com.yoanpetrov.studentmanagementsystem.repositories.TokenRevocationRepository;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+
+/**
+ * Token revocation service. Keeps an in-memory deny-list of the accounts whose tokens were revoked,
+ * used when requests are authenticated from the token claims alone.
+ * A token is revoked if it was issued before the last revocation of its account, or in the same millisecond,
+ * so that a token issued right around a revocation is never let through.
+ * Every revocation is also written to the database, where the non-blocking API reads it,
+ * and the deny-list is loaded from there on startup, so that a restart does not bring revoked tokens back.
+ * Entries are dropped once every token they could apply to has expired.
+ */
+@RequiredArgsConstructor
+@Service
+public class TokenRevocationService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final TokenRevocationRepository revocationRepository;
+
+    @Value("${application.security.jwt.expiration}")
+    private long jwtExpiration;
+    @Value("${application.security.jwt.refresh-token.expiration}")
+    private long refreshExpiration;
+
+    /**
+     * The time of the last revocation of each username, in milliseconds.
+     */
+    private Cache<String, Long> revokedAt;
+    private volatile long allRevokedAt = Long.MIN_VALUE;
+
+    @PostConstruct
+    void init() {
+        revokedAt = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMillis(maxTokenLifetime()))
+            .build();
+        for (TokenRevocation revocation : revocationRepository.findRevokedSince(oldestUnexpiredIssueTime())) {
+            if (revocation.isAllAccounts()) {
+                allRevokedAt = revocation.getRevokedAt();
+            } else {
+                revokedAt.put(revocation.getUsername(), revocation.getRevokedAt());
+            }
+        }
+    }
+
+    /**
+     * Revokes all tokens issued to the given username so far.
+     * Runs in a transaction of its own, as it is called once the change that requires it has committed.
+     *
+     * @param username the username.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void revokeTokensOf(String username) {
+        LOG.debug("Revoking the tokens of {}", username);
+        long now = System.currentTimeMillis();
+        revokedAt.put(username, now);
+        revocationRepository.deleteRevokedBefore(oldestUnexpiredIssueTime());
+        revocationRepository.upsert(username, now);
+    }
+
+    /**
+     * Revokes all tokens issued so far.
+     * Runs in a transaction of its own, as it is called once the change that requires it has committed.
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void revokeAllTokens() {
+        LOG.debug("Revoking all tokens");
+        long now = System.currentTimeMillis();
+        allRevokedAt = now;
+        revokedAt.invalidateAll();
+        // Every earlier revocation is covered by this one
+        revocationRepository.deleteRevokedBefore(now);
+        revocationRepository.upsert(TokenRevocation.ALL_ACCOUNTS, now);
+    }
+
+    /**
+     * Checks whether the token with the given claims was revoked.
+     *
+     * @param claims the verified claims of the token.
+     * @return true if the token was issued before or at the last revocation of its account's tokens,
+     * false otherwise.
+     */
+    public boolean isRevoked(Claims claims) {
+        Long issuedAt = JwtService.extractIssuedAtMillis(claims);
+        if (issuedAt == null) {
+            return true;
+        }
+        Long userRevokedAt = revokedAt.getIfPresent(claims.getSubject());
+        return issuedAt <= allRevokedAt
+            || (userRevokedAt != null && issuedAt <= userRevokedAt);
+    }
+
+    private long maxTokenLifetime() {
+        return Math.max(jwtExpiration, refreshExpiration);
+    }
+
+    /**
+     * Gets the issue time of the oldest token that can still be unexpired.
+     * Revocations older than it no longer apply to any token.
+     */
+    private long oldestUnexpiredIssueTime() {
+        return System.currentTimeMillis() - maxTokenLifetime();
+    }
+}
@@ -1,57 +1,94 @@
 package com.yoanpetrov.studentmanagementsystem.services;
 
+import com.yoanpetrov.studentmanagementsystem.dto.CursorPage;
+import com.yoanpetrov.studentmanagementsystem.dto.UserAccountView;
 import com.yoanpetrov.studentmanagementsystem.entities.User;
 import com.yoanpetrov.studentmanagementsystem.entities.UserAccount;
+import com.yoanpetrov.studentmanagementsystem.events.AccountChangedEvent;
+import com.yoanpetrov.studentmanagementsystem.exceptions.BadRequestException;
 import com.yoanpetrov.studentmanagementsystem.exceptions.ResourceNotFoundException;
+import com.yoanpetrov.studentmanagementsystem.pagination.Cursor;
+import com.yoanpetrov.studentmanagementsystem.pagination.KeysetPaginator;
+import com.yoanpetrov.studentmanagementsystem.pagination.KeysetSort;
 import com.yoanpetrov.studentmanagementsystem.repositories.UserAccountRepository;
 import com.yoanpetrov.studentmanagementsystem.repositories.UserRepository;
+import com.yoanpetrov.studentmanagementsystem.security.AccountPrincipal;
 import lombok.RequiredArgsConstructor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
 
 /**
  * User account details service. Used to load a user account by its username from the database.
+ * Loaded accounts are cached, and every change to an account publishes an {@code AccountChangedEvent}
+ * that evicts it and, unless the change keeps the account's tokens valid, revokes them once the change commits.
  */
 @RequiredArgsConstructor
 @Service
-public class UserAccountService implements UserDetailsService {
+public class UserAccountService implements UserDetailsService, UserDetailsPasswordService {
 
     private static final Logger LOG = LoggerFactory.getLogger(UserAccountService.class);
 
     private final UserAccountRepository accountRepository;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final EnrollmentService enrollmentService;
+    private final KeysetPaginator paginator;
+    private final UserDetailsCacheService userDetailsCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * Loads the user from the database.
+     * Loads the user from the cache, or from the database if it is not cached.
      *
      * @param username the username identifying the user whose data is required.
-     * @return the {@code UserDetails} object if the user exists.
+     * @return the {@code AccountPrincipal} of the account if it exists.
      * @throws UsernameNotFoundException if a user with that username was not found.
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return userDetailsCache.get(username, this::loadPrincipalFromDb);
+    }
+
+    private AccountPrincipal loadPrincipalFromDb(String username) {
         LOG.debug("Loading user by username: {}", username);
         Optional<UserAccount> accountFromDb = accountRepository.findByUsername(username);
         if (accountFromDb.isEmpty()) {
             throw new UsernameNotFoundException("Username not found");
         }
-        UserAccount account = accountFromDb.get();
+        return AccountPrincipal.of(accountFromDb.get());
+    }
 
-        return new org.springframework.security.core.userdetails.User(
-            account.getUsername(),
-            account.getPassword(),
-            true, true, true, true,
-            account.getRole().getAuthorities());
+    /**
+     * Replaces the password hash of the given user with one of the current cost.
+     * Called on a successful login when the stored hash was made with a lower cost.
+     * The user's tokens are not revoked, as the password itself did not change.
+     *
+     * @param user        the authenticated user.
+     * @param newPassword the new password hash.
+     * @return the user with the new password hash.
+     * @throws UsernameNotFoundException if the account was not found.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        LOG.debug("Upgrading the password hash of {}", user.getUsername());
+        UserAccount account = accountRepository.findByUsername(user.getUsername())
+            .orElseThrow(() -> new UsernameNotFoundException("Username not found"));
+        account.setPassword(newPassword);
+        accountRepository.save(account);
+        eventPublisher.publishEvent(AccountChangedEvent.updated(account.getUsername()));
+        return AccountPrincipal.of(account);
     }
 
     /**
@@ -59,8 +96,26 @@ public class UserAccountService implements UserDetailsService {
      *
      * @return a list of the accounts, empty if no accounts exist.
      */
-    public List<UserAccount> getAllUserAccounts() {
-        return accountRepository.findAll();
+    public List<UserAccountView> getAllUserAccounts() {
+        return accountRepository.findAllViews();
+    }
+
+    /**
+     * Gets a single page of the existing user accounts in the database.
+     *
+     * @param sort   the sort of the accounts.
+     * @param cursor the cursor returned with the previous page, or null for the first page.
+     * @param size   the page size, or null for the default one.
+     * @return the page, empty if no accounts exist after the cursor.
+     * @throws BadRequestException if the cursor or size are invalid.
+     */
+    public CursorPage<UserAccountView> getUserAccountsPage(KeysetSort sort, String cursor, Integer size) {
+        return paginator.paginate("accounts", sort, cursor, size,
+            (after, limit) -> switch (sort) {
+                case ID -> accountRepository.findPageOrderedById(after.getLastId(), limit);
+                case NAME -> accountRepository.findPageOrderedByUsername(after.getLastKey(), after.getLastId(), limit);
+            },
+            account -> Cursor.after(sort, account.accountId(), account.username()));
     }
 
     /**
@@ -76,14 +131,16 @@ public class UserAccountService implements UserDetailsService {
     }
 
     /**
-     * Gets a single user account from the database by its id.
+     * Gets a single user account by its id.
+     * The account is read through the second-level cache, and only its view leaves the service.
      *
      * @param id the id of the account.
      * @return the account, if it exists.
      * @throws ResourceNotFoundException if the account was not found.
      */
-    public UserAccount getUserAccountById(Long id) {
+    public UserAccountView getUserAccountById(Long id) {
         return accountRepository.findById(id)
+            .map(UserAccountView::of)
             .orElseThrow(() -> new ResourceNotFoundException("User account not found"));
     }
 
@@ -100,12 +157,14 @@ public class UserAccountService implements UserDetailsService {
 
     /**
      * Sets the given {@code UserAccount}'s {@code User}.
+     * Revokes the account's tokens, as they carry the id of its previous user.
      *
      * @param userAccountId the id of the account.
      * @param userId        the id of the {@code User} to be set as the account's user.
      * @return the set {@code User} if the action was successful.
      * @throws ResourceNotFoundException if the user or the account were not found.
      */
+    @Transactional
     public User setAccountUser(Long userAccountId, Long userId) {
         UserAccount userAccount = accountRepository.findById(userAccountId)
             .orElseThrow(() -> new ResourceNotFoundException("User account not found"));
@@ -113,54 +172,57 @@ public class UserAccountService implements UserDetailsService {
             .orElseThrow(() -> new ResourceNotFoundException("User not found"));
         userAccount.setUser(user);
         accountRepository.save(userAccount);
+        eventPublisher.publishEvent(AccountChangedEvent.revoked(userAccount.getUsername()));
         return user;
     }
 
     /**
      * Updates the user account with the given id with the new user account details.
+     * Revokes the tokens issued to the account under its previous details once the update commits.
      *
      * @param id                 the id of the account.
      * @param userAccountDetails the new account details.
      * @return the updated account.
      * @throws ResourceNotFoundException if the account was not found.
      */
+    @Transactional
     public UserAccount updateUserAccount(Long id, UserAccount userAccountDetails) {
         UserAccount userAccount = accountRepository.findById(id)
             .orElseThrow(() -> new ResourceNotFoundException("User account not found"));
+        String previousUsername = userAccount.getUsername();
         userAccount.setUsername(userAccountDetails.getUsername());
         userAccount.setPassword(passwordEncoder.encode(userAccountDetails.getPassword()));
         userAccount.setRole(userAccountDetails.getRole());
 
-        return accountRepository.save(userAccount);
+        UserAccount savedAccount = accountRepository.save(userAccount);
+        eventPublisher.publishEvent(AccountChangedEvent.revoked(previousUsername));
+        return savedAccount;
     }
 
     /**
-     * Deletes all user accounts.
+     * Deletes all user accounts, along with their users and enrollments, and revokes all tokens.
      */
+    @Transactional
     public void deleteAllUserAccounts() {
+        enrollmentService.unenrollAll();
         accountRepository.deleteAll();
+        eventPublisher.publishEvent(AccountChangedEvent.allAccounts());
     }
 
     /**
-     * Deletes a user account by its id.
+     * Deletes a user account by its id, along with its user and the user's enrollments, and revokes its tokens.
      *
      * @param id the id of the account.
      * @throws ResourceNotFoundException if the account was not found.
      */
+    @Transactional
     public void deleteUserAccount(Long id) {
-        if (!existsUserAccount(id)) {
-            throw new ResourceNotFoundException("User account not found");
+        UserAccount userAccount = accountRepository.findById(id)
+            .orElseThrow(() -> new ResourceNotFoundException("User account not found"));
+        if (userAccount.getUser() != null) {
+            enrollmentService.unenrollUserFromAllCourses(userAccount.getUser().getUserId());
         }
-        accountRepository.deleteById(id);
-    }
-
-    /**
-     * Checks whether a user account exists in the database.
-     *
-     * @param userAccountId the id of the account.
-     * @return true if the account exists, false otherwise.
-     */
-    private boolean existsUserAccount(Long userAccountId) {
-        return accountRepository.existsById(userAccountId);
+        accountRepository.delete(userAccount);
+        eventPublisher.publishEvent(AccountChangedEvent.revoked(userAccount.getUsername()));
     }
 }
@@ -6,24 +6,57 @@ import com.yoanpetrov.studentmanagementsystem.repositories.UserAccountRepository
 import com.yoanpetrov.studentmanagementsystem.security.Role;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.Profiles;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
+/**
+ * Seeds the database on startup with an admin, a teacher and a student account.
+ * With the {@code synthetic-data} profile, or a positive {@code application.seed.users}
+ * (e.g. {@code --application.seed.users=100000} on the command line),
+ * it also generates users, courses and enrollments through the {@code SyntheticDataService}.
+ */
 @Profile("!test")
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class UserAccountsSeederService implements CommandLineRunner {
 
+    private static final String SYNTHETIC_DATA_PROFILE = "synthetic-data";
+    private static final int DEFAULT_SYNTHETIC_USERS = 100_000;
+    private static final int DEFAULT_SYNTHETIC_COURSES = 1_000;
+
     private final UserAccountRepository repository;
     private final PasswordEncoder passwordEncoder;
+    private final SyntheticDataService syntheticDataService;
+    private final Environment environment;
+
+    @Value("${application.seed.users:0}")
+    private int syntheticUsers;
+    @Value("${application.seed.courses:0}")
+    private int syntheticCourses;
+    @Value("${application.seed.average-courses-per-user:10}")
+    private double averageCoursesPerUser;
+    @Value("${application.seed.popularity-skew:1.0}")
+    private double popularitySkew;
+    @Value("${application.seed.password:password}")
+    private String syntheticPassword;
+    @Value("${application.seed.random-seed:42}")
+    private long randomSeed;
 
     @Override
     public void run(String... args) {
+        seedAccounts();
+        seedSyntheticData();
+    }
+
+    private void seedAccounts() {
         if (accountsAlreadyExisting()) {
             return;
         }
@@ -49,6 +82,21 @@ public class UserAccountsSeederService implements CommandLineRunner {
         repository.saveAll(List.of(adminAccount, teacherAccount, studentAccount));
     }
 
+    private void seedSyntheticData() {
+        boolean profileActive = environment.acceptsProfiles(Profiles.of(SYNTHETIC_DATA_PROFILE));
+        int users = syntheticUsers > 0 ? syntheticUsers : (profileActive ? DEFAULT_SYNTHETIC_USERS : 0);
+        if (users == 0) {
+            return;
+        }
+        if (repository.existsByUsername("user0")) {
+            log.info("Synthetic data already exists, skipping its generation.");
+            return;
+        }
+        int courses = syntheticCourses > 0 ? syntheticCourses : DEFAULT_SYNTHETIC_COURSES;
+        syntheticDataService.generate(new SyntheticDataService.Settings(
+            users, courses, averageCoursesPerUser, popularitySkew, syntheticPassword, randomSeed));
+    }
+
     private boolean accountsAlreadyExisting() {
         return repository.existsByUsername("admin")
             || repository.existsByUsername("teacher")
@@ -0,0 +1,100 @@
+package com.yoanpetrov.studentmanagementsystem.services;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import com.yoanpetrov.studentmanagementsystem.events.AccountChangedEvent;
+import com.yoanpetrov.studentmanagementsystem.security.AccountPrincipal;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * User details cache service. Keeps the principals of recently authenticated accounts,
+ * so that database-backed authentication does not query the account on every request.
+ * Entries expire after {@code timeToLive} milliseconds and are evicted as soon as their account changes.
+ */
+@RequiredArgsConstructor
+@Service
+public class UserDetailsCacheService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(UserDetailsCacheService.class);
+
+    @Value("${application.security.user-details-cache.maximum-size:10000}")
+    private long maximumSize;
+    @Value("${application.security.user-details-cache.time-to-live:60000}")
+    private long timeToLive;
+
+    private final TokenRevocationService tokenRevocationService;
+
+    private final StatsCounter statsCounter = new ConcurrentStatsCounter();
+    private AsyncCache<String, AccountPrincipal> principals;
+
+    @PostConstruct
+    void init() {
+        principals = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(Duration.ofMillis(timeToLive))
+            .buildAsync();
+    }
+
+    /**
+     * Gets the principal of the given username, loading it on a cache miss.
+     * The principal is loaded on the calling thread, outside the map of the cache, see {@code CacheLoads}.
+     * Concurrent misses for the same username load it only once.
+     *
+     * @param username the username.
+     * @param loader   loads the principal of the username from the database.
+     * @return the principal.
+     */
+    public AccountPrincipal get(String username, Function<String, AccountPrincipal> loader) {
+        return CacheLoads.get(principals, username, loader, statsCounter);
+    }
+
+    /**
+     * Gets the hit, miss and load statistics of the cache since startup.
+     *
+     * @return the statistics.
+     */
+    public CacheStats getStatistics() {
+        return statsCounter.snapshot();
+    }
+
+    /**
+     * Evicts all cached principals.
+     */
+    public void evictAll() {
+        LOG.debug("Evicting all cached user details");
+        principals.synchronous().invalidateAll();
+    }
+
+    /**
+     * Revokes the tokens of the changed accounts, if the change requires it, and evicts their principals.
+     * Runs after the transaction making the change commits, so that the old account cannot be loaded again,
+     * and a change that fails to commit revokes nothing.
+     *
+     * @param event the event.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAccountChanged(AccountChangedEvent event) {
+        if (event.isAllAccounts()) {
+            tokenRevocationService.revokeAllTokens();
+            evictAll();
+            return;
+        }
+        if (event.revokesTokens()) {
+            tokenRevocationService.revokeTokensOf(event.username());
+        }
+        LOG.debug("Evicting the cached user details of {}", event.username());
+        principals.synchronous().invalidate(event.username());
+    }
+}
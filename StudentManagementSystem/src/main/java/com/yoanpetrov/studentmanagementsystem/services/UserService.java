@@ -1,17 +1,31 @@
 package com.yoanpetrov.studentmanagementsystem.services;
 
+import com.yoanpetrov.studentmanagementsystem.dto.CourseView;
+import com.yoanpetrov.studentmanagementsystem.dto.CursorPage;
+import com.yoanpetrov.studentmanagementsystem.dto.UserView;
+import com.yoanpetrov.studentmanagementsystem.events.AccountChangedEvent;
+import com.yoanpetrov.studentmanagementsystem.exceptions.BadRequestException;
 import com.yoanpetrov.studentmanagementsystem.exceptions.ResourceNotFoundException;
 import com.yoanpetrov.studentmanagementsystem.entities.Course;
 import com.yoanpetrov.studentmanagementsystem.entities.User;
+import com.yoanpetrov.studentmanagementsystem.pagination.Cursor;
+import com.yoanpetrov.studentmanagementsystem.pagination.KeysetPaginator;
+import com.yoanpetrov.studentmanagementsystem.pagination.KeysetSort;
 import com.yoanpetrov.studentmanagementsystem.repositories.CourseRepository;
+import com.yoanpetrov.studentmanagementsystem.repositories.UserAccountRepository;
 import com.yoanpetrov.studentmanagementsystem.repositories.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * User service. Used to perform business logic on users.
+ * Reads return {@code UserView}s and {@code CourseView}s, so no entity is ever serialized,
+ * and the listings select them column by column without loading any entity.
  */
 @RequiredArgsConstructor
 @Service
@@ -19,41 +33,121 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final CourseRepository courseRepository;
-
+    private final UserAccountRepository accountRepository;
+    private final EnrollmentService enrollmentService;
+    private final KeysetPaginator paginator;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Gets all existing users in the database.
      *
      * @return a list of the users, empty if no users exist.
      */
-    public List<User> getAllUsers() {
-        return userRepository.findAll();
+    public List<UserView> getAllUsers() {
+        return userRepository.findAllViews();
     }
 
     /**
-     * Gets a single user from the database by its id.
+     * Gets a single page of the existing users in the database.
+     *
+     * @param sort   the sort of the users.
+     * @param cursor the cursor returned with the previous page, or null for the first page.
+     * @param size   the page size, or null for the default one.
+     * @return the page, empty if no users exist after the cursor.
+     * @throws BadRequestException if the cursor or size are invalid.
+     */
+    public CursorPage<UserView> getUsersPage(KeysetSort sort, String cursor, Integer size) {
+        return paginator.paginate("users", sort, cursor, size,
+            (after, limit) -> switch (sort) {
+                case ID -> userRepository.findPageOrderedById(after.getLastId(), limit);
+                case NAME -> userRepository.findPageOrderedByLastName(after.getLastKey(), after.getLastId(), limit);
+            },
+            user -> Cursor.after(sort, user.userId(), user.lastName()));
+    }
+
+    /**
+     * Gets the ETag of a single user by its id, without loading the user.
+     *
+     * @param id the id of the user.
+     * @return the ETag, made of the id and the version of the user.
+     * @throws ResourceNotFoundException if the user was not found.
+     */
+    public String getUserETag(Long id) {
+        return userRepository.findVersionById(id)
+            .map(version -> eTagOf(id, version))
+            .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    }
+
+    /**
+     * Gets the ETag of the given user.
+     *
+     * @param user the user.
+     * @return the ETag, made of the id and the version of the user.
+     */
+    public String getUserETag(UserView user) {
+        return eTagOf(user.userId(), user.version());
+    }
+
+    private static String eTagOf(Long id, long version) {
+        return "user-" + id + "-" + version;
+    }
+
+    /**
+     * Gets a single user by its id.
+     * The user is read through the second-level cache, so a cached user costs no query,
+     * and only its view leaves the service.
      *
      * @param id the id of the user.
      * @return the user, if it exists.
      * @throws ResourceNotFoundException if the user was not found.
      */
-    public User getUserById(Long id) {
+    public UserView getUserById(Long id) {
         return userRepository.findById(id)
+            .map(UserView::of)
             .orElseThrow(() -> new ResourceNotFoundException("User not found"));
     }
 
     /**
      * Gets all courses the given user is enrolled in.
+     * The existence of the user is only checked if they are not enrolled in any course,
+     * so a listing is a single query.
      *
      * @param id the id of the user.
      * @return a list of the courses, empty if the user is not enrolled in any courses.
      * @throws ResourceNotFoundException if the user was not found.
      */
-    public List<Course> getAllUserCourses(Long id) {
-        if (!existsUser(id)) {
+    public List<CourseView> getAllUserCourses(Long id) {
+        List<CourseView> courses = courseRepository.findViewsByUserId(id);
+        if (courses.isEmpty() && !existsUser(id)) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        return courses;
+    }
+
+    /**
+     * Gets a single page of the courses the given user is enrolled in.
+     * The existence of the user is only checked if the page is empty, so a page is a single query.
+     *
+     * @param id     the id of the user.
+     * @param sort   the sort of the courses.
+     * @param cursor the cursor returned with the previous page, or null for the first page.
+     * @param size   the page size, or null for the default one.
+     * @return the page, empty if the user is not enrolled in any courses after the cursor.
+     * @throws ResourceNotFoundException if the user was not found.
+     * @throws BadRequestException if the cursor or size are invalid.
+     */
+    public CursorPage<CourseView> getUserCoursesPage(Long id, KeysetSort sort, String cursor, Integer size) {
+        CursorPage<CourseView> page = paginator.paginate("users/" + id + "/courses", sort, cursor, size,
+            (after, limit) -> switch (sort) {
+                case ID -> courseRepository.findUserPageOrderedById(id, after.getLastId(), limit);
+                case NAME -> courseRepository.findUserPageOrderedByName(
+                    id, after.getLastKey(), after.getLastId(), limit);
+            },
+            course -> Cursor.after(sort, course.courseId(), course.name()));
+        if (page.getItems().isEmpty() && !existsUser(id)) {
             throw new ResourceNotFoundException("User not found");
         }
-        return courseRepository.findCoursesByUsersUserId(id);
+        return page;
     }
 
     /**
@@ -75,13 +169,7 @@ public class UserService {
      * @throws ResourceNotFoundException if the user or course were not found.
      */
     public Course addCourseToUser(Long userId, Long courseId) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        Course course = courseRepository.findById(courseId)
-            .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
-        course.addUser(user);
-        userRepository.save(user);
-        return course;
+        return enrollmentService.enroll(courseId, userId).getCourse();
     }
 
     /**
@@ -103,23 +191,32 @@ public class UserService {
     }
 
     /**
-     * Deletes all users.
+     * Deletes all users, along with their accounts and enrollments.
+     * Revokes all tokens once the deletion commits, as deleting all accounts does.
      */
+    @Transactional
     public void deleteAllUsers() {
+        enrollmentService.unenrollAll();
         userRepository.deleteAll();
+        eventPublisher.publishEvent(AccountChangedEvent.allAccounts());
     }
 
     /**
-     * Deletes a user by its id.
+     * Deletes a user by its id, along with its account and enrollments.
+     * Revokes the tokens of the account once the deletion commits, as deleting the account does.
      *
      * @param id the id of the user.
      * @throws ResourceNotFoundException if the user was not found.
      */
+    @Transactional
     public void deleteUser(Long id) {
         if (!existsUser(id)) {
-            throw new ResourceNotFoundException("Course not found");
+            throw new ResourceNotFoundException("User not found");
         }
+        Optional<String> username = accountRepository.findUsernameByUserId(id);
+        enrollmentService.unenrollUserFromAllCourses(id);
         userRepository.deleteById(id);
+        username.ifPresent(u -> eventPublisher.publishEvent(AccountChangedEvent.revoked(u)));
     }
 
     /**
@@ -131,13 +228,7 @@ public class UserService {
      * @throws ResourceNotFoundException if the user or course were not found.
      */
     public Course removeCourseFromUser(Long userId, Long courseId) {
-        User user = userRepository.findById(userId)
-            .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-        Course course = courseRepository.findById(courseId)
-            .orElseThrow(() -> new ResourceNotFoundException("Course not found"));
-        course.removeUser(user);
-        userRepository.save(user);
-        return course;
+        return enrollmentService.unenroll(courseId, userId).getCourse();
     }
 
     /**
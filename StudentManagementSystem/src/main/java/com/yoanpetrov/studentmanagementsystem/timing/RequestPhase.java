@@ -0,0 +1,44 @@
+package com.yoanpetrov.studentmanagementsystem.timing;
+
+/**
+ * The phases of a request that are timed separately.
+ */
+public enum RequestPhase {
+
+    /**
+     * Authenticating the JWT token, in {@code JwtRequestFilter}.
+     */
+    JWT("jwt"),
+
+    /**
+     * The authorization checks of {@code AuthenticationCheckerService}.
+     */
+    AUTHORIZATION("authz"),
+
+    /**
+     * The calls to the repositories, including the queries they run.
+     */
+    DATABASE("db"),
+
+    /**
+     * Writing the response body, in whichever format was negotiated.
+     */
+    SERIALIZATION("ser"),
+
+    ;
+
+    private final String metricName;
+
+    RequestPhase(String metricName) {
+        this.metricName = metricName;
+    }
+
+    /**
+     * Returns the name of the phase in the {@code Server-Timing} header.
+     *
+     * @return the name.
+     */
+    public String getMetricName() {
+        return metricName;
+    }
+}
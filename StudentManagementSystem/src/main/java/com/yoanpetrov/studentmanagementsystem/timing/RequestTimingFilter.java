@@ -0,0 +1,198 @@
+package com.yoanpetrov.studentmanagementsystem.timing;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the phases of every request. Runs before all other filters, so the total covers the whole request.
+ * The breakdown is returned in a {@code Server-Timing} header if {@code application.timing.server-timing-header}
+ * is set, and written to the {@code access} log for a sample of the requests and for every slow one.
+ * The access log of a request that continues asynchronously is written once it completes,
+ * so that it includes the work done on other threads.
+ * With the header enabled, the body is held back until the request is done, as writing it commits the response
+ * and the header has to include the serialization of the body. Streamed bodies are never held back: neither those
+ * written after the request went asynchronous, e.g. the exports, nor those of a streaming media type, such as
+ * newline-delimited JSON or server-sent events. Their header is added when the handler returns, unless the stream
+ * already committed the response, and it leaves out the streaming, which is only in the access log.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTimingFilter extends OncePerRequestFilter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("access");
+
+    private static final String SERVER_TIMING_HEADER = "Server-Timing";
+    private static final List<MediaType> STREAMING_MEDIA_TYPES = List.of(
+        MediaType.APPLICATION_NDJSON,
+        MediaType.parseMediaType("application/x-ndjson"),
+        MediaType.TEXT_EVENT_STREAM);
+
+    @Value("${application.timing.server-timing-header:false}")
+    private boolean serverTimingHeader;
+    @Value("${application.timing.access-log.sample-rate:0.01}")
+    private double sampleRate;
+    @Value("${application.timing.access-log.slow-threshold:500}")
+    private long slowThresholdMillis;
+
+    @Override
+    protected void doFilterInternal(
+        @NonNull HttpServletRequest request,
+        @NonNull HttpServletResponse response,
+        @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.begin(request);
+        ServerTimingResponseWrapper timedResponse = serverTimingHeader
+            ? new ServerTimingResponseWrapper(request, response)
+            : null;
+        try {
+            filterChain.doFilter(request, timedResponse == null ? response : timedResponse);
+        } finally {
+            if (timedResponse != null) {
+                timedResponse.complete(timings.toServerTiming());
+            }
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new CompletionListener(request, response, timings));
+            } else {
+                complete(request, response, timings);
+            }
+        }
+    }
+
+    private void complete(HttpServletRequest request, HttpServletResponse response, RequestTimings timings) {
+        timings.end();
+        logAccess(request, response, timings);
+    }
+
+    private void logAccess(HttpServletRequest request, HttpServletResponse response, RequestTimings timings) {
+        if (!ACCESS_LOG.isInfoEnabled()) {
+            return;
+        }
+        long totalMillis = TimeUnit.NANOSECONDS.toMillis(timings.getTotalNanos());
+        if (totalMillis >= slowThresholdMillis || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            ACCESS_LOG.info("{} {} {} {}",
+                request.getMethod(), request.getRequestURI(), response.getStatus(), timings.toServerTiming());
+        }
+    }
+
+    /**
+     * Completes the timing of a request once its asynchronous processing is done.
+     */
+    private class CompletionListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final HttpServletResponse response;
+        private final RequestTimings timings;
+
+        CompletionListener(HttpServletRequest request, HttpServletResponse response, RequestTimings timings) {
+            this.request = request;
+            this.response = response;
+            this.timings = timings;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            complete(request, response, timings);
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            // Followed by onComplete
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            // Followed by onComplete
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+
+    /**
+     * Buffers the body until the {@code Server-Timing} header is added.
+     * Once the request went asynchronous, or if the body is of a streaming media type,
+     * the body is written through to the client, so that a streamed body is never held in memory.
+     */
+    private static class ServerTimingResponseWrapper extends ContentCachingResponseWrapper {
+
+        private final HttpServletRequest request;
+
+        ServerTimingResponseWrapper(HttpServletRequest request, HttpServletResponse response) {
+            super(response);
+            this.request = request;
+        }
+
+        /**
+         * Adds the header, unless the response was already committed, and sends the buffered body.
+         *
+         * @param serverTiming the header value.
+         * @throws IOException if sending the body fails.
+         */
+        void complete(String serverTiming) throws IOException {
+            if (!isCommitted()) {
+                addHeader(SERVER_TIMING_HEADER, serverTiming);
+            }
+            // The content length of a body that is still being streamed is not known yet
+            copyBodyToResponse(!request.isAsyncStarted());
+        }
+
+        private boolean writingThrough() {
+            return request.isAsyncStarted() || isStreamed(getContentType());
+        }
+
+        private static boolean isStreamed(String contentType) {
+            if (contentType == null) {
+                return false;
+            }
+            try {
+                MediaType mediaType = MediaType.parseMediaType(contentType);
+                return STREAMING_MEDIA_TYPES.stream().anyMatch(streamed -> streamed.includes(mediaType));
+            } catch (InvalidMediaTypeException e) {
+                return false;
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            return writingThrough() ? getResponse().getOutputStream() : super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            return writingThrough() ? getResponse().getWriter() : super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (writingThrough()) {
+                getResponse().flushBuffer();
+            } else {
+                super.flushBuffer();
+            }
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.yoanpetrov.studentmanagementsystem.timing;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.NonNull;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Carries the timings of the current request over to the tasks it submits, e.g. the writing of a
+ * {@code StreamingResponseBody} or an {@code @Async} method, so that their work is timed as part of the request.
+ * The task sees the timings through {@code RequestContextHolder}, as the request's own thread does,
+ * but not the request itself, which the container may recycle while a detached task is still running.
+ */
+public class RequestTimingTaskDecorator implements TaskDecorator {
+
+    @Override
+    @NonNull
+    public Runnable decorate(@NonNull Runnable task) {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            return task;
+        }
+        RequestAttributes attributes = new TimingsOnlyAttributes(timings);
+        return () -> {
+            RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+            RequestContextHolder.setRequestAttributes(attributes);
+            try {
+                task.run();
+            } finally {
+                if (previous == null) {
+                    RequestContextHolder.resetRequestAttributes();
+                } else {
+                    RequestContextHolder.setRequestAttributes(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     * The request attributes of a task, holding only the timings of the request that submitted it.
+     */
+    private static class TimingsOnlyAttributes implements RequestAttributes {
+
+        private final RequestTimings timings;
+
+        TimingsOnlyAttributes(RequestTimings timings) {
+            this.timings = timings;
+        }
+
+        @Override
+        public Object getAttribute(@NonNull String name, int scope) {
+            return scope == SCOPE_REQUEST && RequestTimings.ATTRIBUTE.equals(name) ? timings : null;
+        }
+
+        @Override
+        public void setAttribute(@NonNull String name, @NonNull Object value, int scope) {
+            throw new UnsupportedOperationException("The attributes of a task are read-only");
+        }
+
+        @Override
+        public void removeAttribute(@NonNull String name, int scope) {
+            throw new UnsupportedOperationException("The attributes of a task are read-only");
+        }
+
+        @Override
+        @NonNull
+        public String[] getAttributeNames(int scope) {
+            return scope == SCOPE_REQUEST ? new String[]{RequestTimings.ATTRIBUTE} : new String[0];
+        }
+
+        @Override
+        public void registerDestructionCallback(@NonNull String name, @NonNull Runnable callback, int scope) {
+            throw new UnsupportedOperationException("The attributes of a task are read-only");
+        }
+
+        @Override
+        public Object resolveReference(@NonNull String key) {
+            return null;
+        }
+
+        @Override
+        @NonNull
+        public String getSessionId() {
+            throw new IllegalStateException("A task has no session");
+        }
+
+        @Override
+        @NonNull
+        public Object getSessionMutex() {
+            throw new IllegalStateException("A task has no session");
+        }
+    }
+}
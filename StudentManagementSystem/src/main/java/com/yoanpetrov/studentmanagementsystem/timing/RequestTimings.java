@@ -0,0 +1,170 @@
+package com.yoanpetrov.studentmanagementsystem.timing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * The time spent in each phase of the current request.
+ * Held as an attribute of the request by {@code RequestTimingFilter} and looked up through Spring's
+ * {@code RequestContextHolder}, so that the tasks the request hands to other threads, e.g. a streamed body
+ * or an {@code @Async} method, are timed as part of it too, see {@code RequestTimingTaskDecorator}.
+ * Recording outside of a request does nothing, so the timed components do not have to know whether timing is enabled.
+ * Only the outermost of nested calls of the same phase on a thread is counted, so time is never counted twice
+ * within a phase. Different phases may overlap, e.g. the account lookup of the JWT filter is also a database call,
+ * and so may the calls of the same phase on different threads.
+ * The SQL statements that Hibernate prepares for the request are counted as well, so lazy-load cascades show up
+ * as a growing statement count rather than only as a slower database phase.
+ */
+public final class RequestTimings {
+
+    static final String ATTRIBUTE = RequestTimings.class.getName();
+
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+
+    private final long startNanos = System.nanoTime();
+    private final AtomicLongArray nanos = new AtomicLongArray(PHASES.length);
+    private final AtomicIntegerArray counts = new AtomicIntegerArray(PHASES.length);
+    private final Map<Thread, int[]> depths = new ConcurrentHashMap<>();
+    private final AtomicInteger statements = new AtomicInteger();
+    private volatile boolean ended;
+
+    private RequestTimings() {
+    }
+
+    /**
+     * Starts timing the given request.
+     *
+     * @param request the request.
+     * @return the timings of the request.
+     */
+    static RequestTimings begin(HttpServletRequest request) {
+        RequestTimings timings = new RequestTimings();
+        request.setAttribute(ATTRIBUTE, timings);
+        return timings;
+    }
+
+    /**
+     * Stops timing the request. Work done for it afterwards, e.g. by a detached task, is not recorded.
+     */
+    void end() {
+        ended = true;
+    }
+
+    /**
+     * Gets the timings of the request the current thread works for.
+     *
+     * @return the timings, or null if the thread does not work for a timed request.
+     */
+    static RequestTimings current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        RequestTimings timings = (RequestTimings) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return timings == null || timings.ended ? null : timings;
+    }
+
+    /**
+     * Marks the start of a phase of the current request.
+     *
+     * @param phase the phase.
+     * @return the start time to pass to {@link #stop}, or 0 if the thread does not work for a timed request.
+     */
+    public static long start(RequestPhase phase) {
+        RequestTimings timings = current();
+        if (timings == null) {
+            return 0;
+        }
+        timings.depthsOfCurrentThread()[phase.ordinal()]++;
+        return System.nanoTime();
+    }
+
+    /**
+     * Marks the end of a phase of the current request.
+     *
+     * @param phase      the phase.
+     * @param startNanos the start time returned by {@link #start}.
+     */
+    public static void stop(RequestPhase phase, long startNanos) {
+        if (startNanos == 0) {
+            return;
+        }
+        RequestTimings timings = current();
+        if (timings == null) {
+            return;
+        }
+        int i = phase.ordinal();
+        if (--timings.depthsOfCurrentThread()[i] == 0) {
+            timings.nanos.addAndGet(i, System.nanoTime() - startNanos);
+            timings.counts.incrementAndGet(i);
+        }
+    }
+
+    /**
+     * Counts a SQL statement run for the current request.
+     */
+    public static void countStatement() {
+        RequestTimings timings = current();
+        if (timings != null) {
+            timings.statements.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the time elapsed since the start of the request.
+     *
+     * @return the elapsed time, in nanoseconds.
+     */
+    public long getTotalNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Formats the timings as the value of a {@code Server-Timing} header, e.g.
+     * {@code jwt;dur=0.21, db;dur=3.05;desc="2 calls", sql;desc="2 statements", total;dur=4.80}.
+     * Phases that did not occur are left out, and so is the statement count if no statement was run.
+     *
+     * @return the header value.
+     */
+    public String toServerTiming() {
+        StringBuilder header = new StringBuilder(128);
+        for (RequestPhase phase : PHASES) {
+            int i = phase.ordinal();
+            int count = counts.get(i);
+            if (count == 0) {
+                continue;
+            }
+            appendMetric(header, phase.getMetricName(), nanos.get(i));
+            if (count > 1) {
+                header.append(";desc=\"").append(count).append(" calls\"");
+            }
+            header.append(", ");
+        }
+        int statements = this.statements.get();
+        if (statements > 0) {
+            header.append("sql;desc=\"").append(statements).append(statements == 1 ? " statement" : " statements")
+                .append("\", ");
+        }
+        appendMetric(header, "total", getTotalNanos());
+        return header.toString();
+    }
+
+    /**
+     * Gets the nesting depth of each phase on the current thread.
+     */
+    private int[] depthsOfCurrentThread() {
+        return depths.computeIfAbsent(Thread.currentThread(), thread -> new int[PHASES.length]);
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos) {
+        header.append(name).append(";dur=").append(String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0));
+    }
+}
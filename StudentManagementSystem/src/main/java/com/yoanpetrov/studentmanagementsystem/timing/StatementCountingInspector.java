@@ -0,0 +1,32 @@
+package com.yoanpetrov.studentmanagementsystem.timing;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts every SQL statement that Hibernate prepares, towards the current request (see {@code RequestTimings})
+ * and in a running total, so that the statements of a request can also be counted once it is fully done.
+ * A JDBC batch is prepared once, so it counts as a single statement.
+ * Statements run through {@code JdbcTemplate} do not pass through Hibernate and are not counted.
+ */
+public class StatementCountingInspector implements StatementInspector {
+
+    private final LongAdder statements = new LongAdder();
+
+    @Override
+    public String inspect(String sql) {
+        statements.increment();
+        RequestTimings.countStatement();
+        return sql;
+    }
+
+    /**
+     * Returns the number of statements prepared since startup.
+     *
+     * @return the number of statements.
+     */
+    public long getStatementCount() {
+        return statements.sum();
+    }
+}
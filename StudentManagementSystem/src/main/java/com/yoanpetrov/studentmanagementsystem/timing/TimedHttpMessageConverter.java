@@ -0,0 +1,140 @@
+package com.yoanpetrov.studentmanagementsystem.timing;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * A message converter that times the writing of response bodies by another one as the serialization phase
+ * of the request, so that every negotiated format is timed alike, be it JSON, CBOR, Smile or protobuf.
+ * Reading is passed through untimed.
+ *
+ * @param <T> the type of the converted objects.
+ */
+public class TimedHttpMessageConverter<T> implements HttpMessageConverter<T> {
+
+    private final HttpMessageConverter<T> delegate;
+
+    TimedHttpMessageConverter(HttpMessageConverter<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Wraps the given converter, keeping whether it converts generic types.
+     *
+     * @param converter the converter.
+     * @return the timed converter, or the given one if it is already timed.
+     */
+    public static HttpMessageConverter<?> timed(HttpMessageConverter<?> converter) {
+        if (converter instanceof TimedHttpMessageConverter<?>) {
+            return converter;
+        }
+        if (converter instanceof GenericHttpMessageConverter<?> generic) {
+            return timedGeneric(generic);
+        }
+        return timedPlain(converter);
+    }
+
+    private static <T> HttpMessageConverter<T> timedPlain(HttpMessageConverter<T> converter) {
+        return new TimedHttpMessageConverter<>(converter);
+    }
+
+    private static <T> HttpMessageConverter<T> timedGeneric(GenericHttpMessageConverter<T> converter) {
+        return new Generic<>(converter);
+    }
+
+    @Override
+    public boolean canRead(@NonNull Class<?> clazz, @Nullable MediaType mediaType) {
+        return delegate.canRead(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(@NonNull Class<?> clazz, @Nullable MediaType mediaType) {
+        return delegate.canWrite(clazz, mediaType);
+    }
+
+    @Override
+    @NonNull
+    public List<MediaType> getSupportedMediaTypes() {
+        return delegate.getSupportedMediaTypes();
+    }
+
+    @Override
+    @NonNull
+    public List<MediaType> getSupportedMediaTypes(@NonNull Class<?> clazz) {
+        return delegate.getSupportedMediaTypes(clazz);
+    }
+
+    @Override
+    @NonNull
+    public T read(@NonNull Class<? extends T> clazz, @NonNull HttpInputMessage inputMessage)
+        throws IOException, HttpMessageNotReadableException {
+        return delegate.read(clazz, inputMessage);
+    }
+
+    @Override
+    public void write(@NonNull T t, @Nullable MediaType contentType, @NonNull HttpOutputMessage outputMessage)
+        throws IOException, HttpMessageNotWritableException {
+        long start = RequestTimings.start(RequestPhase.SERIALIZATION);
+        try {
+            delegate.write(t, contentType, outputMessage);
+        } finally {
+            RequestTimings.stop(RequestPhase.SERIALIZATION, start);
+        }
+    }
+
+    /**
+     * Times a converter of generic types, such as the Jackson ones.
+     */
+    private static class Generic<T> extends TimedHttpMessageConverter<T> implements GenericHttpMessageConverter<T> {
+
+        private final GenericHttpMessageConverter<T> delegate;
+
+        Generic(GenericHttpMessageConverter<T> delegate) {
+            super(delegate);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean canRead(@NonNull Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+            return delegate.canRead(type, contextClass, mediaType);
+        }
+
+        @Override
+        @NonNull
+        public T read(@NonNull Type type, @Nullable Class<?> contextClass, @NonNull HttpInputMessage inputMessage)
+            throws IOException, HttpMessageNotReadableException {
+            return delegate.read(type, contextClass, inputMessage);
+        }
+
+        @Override
+        public boolean canWrite(@Nullable Type type, @NonNull Class<?> clazz, @Nullable MediaType mediaType) {
+            return delegate.canWrite(type, clazz, mediaType);
+        }
+
+        @Override
+        public void write(
+            @NonNull T t,
+            @Nullable Type type,
+            @Nullable MediaType contentType,
+            @NonNull HttpOutputMessage outputMessage
+        ) throws IOException, HttpMessageNotWritableException {
+            long start = RequestTimings.start(RequestPhase.SERIALIZATION);
+            try {
+                delegate.write(t, type, contentType, outputMessage);
+            } finally {
+                RequestTimings.stop(RequestPhase.SERIALIZATION, start);
+            }
+        }
+    }
+}
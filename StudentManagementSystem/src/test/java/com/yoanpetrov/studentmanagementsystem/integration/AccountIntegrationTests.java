@@ -15,9 +15,12 @@ import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
+
 import static io.restassured.RestAssured.*;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -69,14 +72,15 @@ public class AccountIntegrationTests {
     @Order(2)
     @Test
     void testGetAllAccounts() {
-        UserAccount[] accounts = get(BASE_URI).then()
+        List<UserAccount> accounts = get(BASE_URI).then()
             .statusCode(HttpStatus.OK.value())
             .extract()
-            .as(UserAccount[].class);
+            .jsonPath()
+            .getList("items", UserAccount.class);
 
-        assertThat(accounts.length, equalTo(2));
+        assertThat(accounts.size(), equalTo(2));
 
-        UserAccount account = accounts[1];
+        UserAccount account = accounts.get(1);
         assertThat(account.getAccountId(), equalTo(2L));
         assertThat(account.getUsername(), equalTo("test"));
         assertTrue(passwordEncoder.matches("test", account.getPassword()));
@@ -149,4 +153,58 @@ public class AccountIntegrationTests {
             .assertThat()
             .statusCode(HttpStatus.NO_CONTENT.value());
     }
+
+    @Order(8)
+    @Test
+    void testImportAccounts() {
+        String csv = """
+            username,password,role,firstName,lastName,email
+            imported1,secret,teacher,Imported,One,one@test.com
+            imported2,"se,cret",,Imported,Two,two@test.com
+            imported3,secret,janitor,Imported,Three,three@test.com
+            imported1,secret,student,Imported,Again,again@test.com
+            """;
+        with().body(csv)
+            .contentType("text/csv")
+            .post(BASE_URI + "/import").then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .body("importedCount", equalTo(2))
+            .body("rejects.line", equalTo(List.of(4, 5)));
+    }
+
+    @Order(9)
+    @Test
+    void testImportAccountsWithoutHeader() {
+        String csv = """
+            username1,secret,student,Headless,One,headless1@test.com
+            username2,secret,student,Headless,Two,headless2@test.com
+            """;
+        with().body(csv)
+            .contentType("text/csv")
+            .post(BASE_URI + "/import").then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .body("importedCount", equalTo(2))
+            .body("rejects", empty());
+    }
+
+    @Order(10)
+    @Test
+    void testImportAccountsRejectsOnlyTheLineThatCannotBeSaved() {
+        // Valid as a line, but too long for the username column
+        String tooLongUsername = "u".repeat(300);
+        String csv = """
+            saved1,secret,student,Saved,One,saved1@test.com
+            %s,secret,student,Too,Long,long@test.com
+            saved2,secret,student,Saved,Two,saved2@test.com
+            """.formatted(tooLongUsername);
+        with().body(csv)
+            .contentType("text/csv")
+            .post(BASE_URI + "/import").then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .body("importedCount", equalTo(2))
+            .body("rejects.line", equalTo(List.of(2)));
+    }
 }
@@ -0,0 +1,136 @@
+package com.yoanpetrov.studentmanagementsystem.integration;
+
+import com.yoanpetrov.studentmanagementsystem.entities.Course;
+import com.yoanpetrov.studentmanagementsystem.entities.User;
+import com.yoanpetrov.studentmanagementsystem.integration.config.TestConfig;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.apache.log4j.BasicConfigurator;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static io.restassured.RestAssured.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class CacheIntegrationTests {
+
+    private static final String BASE_URI = "api/v1/caches";
+    private static final String COURSES_URI = "api/v1/courses";
+    private static final String USERS_URI = "api/v1/users";
+
+    @Autowired
+    private Course testCourse;
+    @Autowired
+    private Course updatedCourse;
+    @Autowired
+    private User testUser;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeAll
+    static void setupLogger() {
+        BasicConfigurator.configure(); // configures logger
+    }
+
+    @BeforeEach
+    void setup() {
+        RestAssured.port = port;
+    }
+
+    @Order(1)
+    @Test
+    void testRepeatedReadsHitCache() {
+        delete(COURSES_URI).then().assertThat().statusCode(HttpStatus.OK.value());
+        with().body(testCourse)
+            .contentType(ContentType.JSON)
+            .post(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.CREATED.value());
+        get(COURSES_URI + "/1").then().assertThat().statusCode(HttpStatus.OK.value());
+        get(COURSES_URI + "/1").then().assertThat().statusCode(HttpStatus.OK.value());
+
+        long hits = get(BASE_URI).then()
+            .statusCode(HttpStatus.OK.value())
+            .extract().jsonPath().getLong("find { it.region == 'courses' }.hitCount");
+        assertThat(hits, greaterThan(0L));
+    }
+
+    @Order(2)
+    @Test
+    void testUpdateInvalidatesCache() {
+        with().body(updatedCourse)
+            .contentType(ContentType.JSON)
+            .put(COURSES_URI + "/1").then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value());
+        get(COURSES_URI + "/1").then()
+            .assertThat()
+            .body("description", equalTo("Updated test description"));
+    }
+
+    @Order(3)
+    @Test
+    void testEvictCaches() {
+        long missesBefore = getCoursesMissCount();
+        delete(BASE_URI).then().assertThat().statusCode(HttpStatus.OK.value());
+        get(COURSES_URI + "/1").then().assertThat().statusCode(HttpStatus.OK.value());
+        assertThat(getCoursesMissCount(), greaterThan(missesBefore));
+    }
+
+    @Order(4)
+    @Test
+    void testUserDetailsCacheStatisticsExposed() {
+        get(BASE_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .body("region", hasItem("user_details"));
+    }
+
+    @Order(5)
+    @Test
+    void testEnrollmentEvictsOnlyItsCourse() {
+        long enrolledCourseId = with().body(testCourse)
+            .contentType(ContentType.JSON)
+            .post(COURSES_URI).then()
+            .statusCode(HttpStatus.CREATED.value())
+            .extract().jsonPath().getLong("courseId");
+        long userId = with().body(testUser)
+            .contentType(ContentType.JSON)
+            .post(USERS_URI).then()
+            .statusCode(HttpStatus.CREATED.value())
+            .extract().jsonPath().getLong("userId");
+        get(COURSES_URI + "/1").then().assertThat().statusCode(HttpStatus.OK.value());
+        get(COURSES_URI + "/" + enrolledCourseId).then().assertThat().statusCode(HttpStatus.OK.value());
+
+        with().contentType(ContentType.JSON)
+            .post(COURSES_URI + "/" + enrolledCourseId + "/users/" + userId).then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value());
+
+        long missesBefore = getCoursesMissCount();
+        get(COURSES_URI + "/1").then().assertThat().statusCode(HttpStatus.OK.value());
+        assertThat(getCoursesMissCount(), equalTo(missesBefore));
+        get(COURSES_URI + "/" + enrolledCourseId).then()
+            .assertThat()
+            .body("numberOfStudents", equalTo(1));
+    }
+
+    private long getCoursesMissCount() {
+        return get(BASE_URI).then()
+            .statusCode(HttpStatus.OK.value())
+            .extract().jsonPath().getLong("find { it.region == 'courses' }.missCount");
+    }
+}
@@ -0,0 +1,150 @@
+package com.yoanpetrov.studentmanagementsystem.integration;
+
+import com.yoanpetrov.studentmanagementsystem.dto.UserAccountDto;
+import com.yoanpetrov.studentmanagementsystem.entities.Course;
+import com.yoanpetrov.studentmanagementsystem.entities.UserAccount;
+import com.yoanpetrov.studentmanagementsystem.repositories.UserAccountRepository;
+import com.yoanpetrov.studentmanagementsystem.security.Role;
+import com.yoanpetrov.studentmanagementsystem.services.UserAccountService;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.apache.log4j.BasicConfigurator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.restassured.RestAssured.with;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Sends {@code CLIENTS} concurrent requests for a page of {@code GET /api/v1/courses} in each of {@code ROUNDS} rounds,
+ * and reports the throughput and latency percentiles, so that the thread modes can be compared.
+ * The requests carry the bearer tokens of {@code ACCOUNTS} accounts and go through the security filter chain,
+ * so that loading the accounts is part of the load.
+ * Subclasses start the app in one mode each, with security enabled.
+ */
+abstract class ConcurrentLoadBenchmark {
+
+    private static final int CLIENTS = 5_000;
+    private static final int ROUNDS = 5;
+    private static final int ACCOUNTS = 20;
+    private static final String PASSWORD = "load-password";
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+    @Autowired
+    private UserAccountService userAccountService;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeAll
+    static void setupLogger() {
+        BasicConfigurator.configure(); // configures logger
+    }
+
+    @BeforeEach
+    void setup() {
+        RestAssured.port = port;
+    }
+
+    /**
+     * The name of the mode, reported with the results.
+     */
+    abstract String mode();
+
+    @Test
+    void benchmarkConcurrentReads(TestReporter reporter) {
+        String[] accessTokens = new String[ACCOUNTS];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            accessTokens[i] = login("load-admin-" + i);
+        }
+        with().header(HttpHeaders.AUTHORIZATION, "Bearer " + accessTokens[0])
+            .body(Course.builder().name("Load").description("Load test course").maxCapacity(10).build())
+            .contentType(ContentType.JSON)
+            .post("api/v1/courses").then()
+            .assertThat()
+            .statusCode(HttpStatus.CREATED.value());
+        HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(30))
+            .build();
+        URI uri = URI.create("http://localhost:" + port + "/api/v1/courses?size=10");
+        HttpRequest[] requests = new HttpRequest[ACCOUNTS];
+        for (int i = 0; i < ACCOUNTS; i++) {
+            requests[i] = HttpRequest.newBuilder(uri)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessTokens[i])
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+        }
+
+        AtomicInteger failures = new AtomicInteger();
+        long[] latencies = new long[CLIENTS * ROUNDS];
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            List<CompletableFuture<Void>> responses = new ArrayList<>(CLIENTS);
+            for (int i = 0; i < CLIENTS; i++) {
+                int index = round * CLIENTS + i;
+                long sentAt = System.nanoTime();
+                responses.add(client.sendAsync(requests[i % ACCOUNTS], HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        latencies[index] = System.nanoTime() - sentAt;
+                        if (error != null || response.statusCode() != HttpStatus.OK.value()) {
+                            failures.incrementAndGet();
+                        }
+                        return null;
+                    }));
+            }
+            CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).join();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        reporter.publishEntry(Map.of(
+            "mode", mode(),
+            "requests", CLIENTS + " clients x " + ROUNDS + " rounds",
+            "throughput", String.format("%.0f requests/s", latencies.length / (elapsed / 1e9)),
+            "p50", TimeUnit.NANOSECONDS.toMillis(latencies[latencies.length / 2]) + " ms",
+            "p99", TimeUnit.NANOSECONDS.toMillis(latencies[latencies.length * 99 / 100]) + " ms",
+            "failures", String.valueOf(failures.get())));
+        assertThat(failures.get(), equalTo(0));
+    }
+
+    /**
+     * Creates an admin account with the given username, unless it exists, and logs into it.
+     */
+    private String login(String username) {
+        if (!userAccountRepository.existsByUsername(username)) {
+            userAccountService.createUserAccount(UserAccount.builder()
+                .username(username)
+                .password(PASSWORD)
+                .role(Role.ADMIN)
+                .build());
+        }
+        return with().body(new UserAccountDto(username, PASSWORD))
+            .contentType(ContentType.JSON)
+            .post("api/v1/login").then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .extract().path("accessToken");
+    }
+}
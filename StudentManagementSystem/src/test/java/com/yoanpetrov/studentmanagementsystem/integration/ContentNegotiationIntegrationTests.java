@@ -0,0 +1,117 @@
+package com.yoanpetrov.studentmanagementsystem.integration;
+
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.yoanpetrov.studentmanagementsystem.entities.Course;
+import com.yoanpetrov.studentmanagementsystem.integration.config.TestConfig;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.apache.log4j.BasicConfigurator;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+
+import static io.restassured.RestAssured.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ContentNegotiationIntegrationTests {
+
+    private static final String COURSES_URI = "api/v1/courses";
+    private static final int COURSE_COUNT = 50;
+
+    @Autowired
+    private Course testCourse;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeAll
+    static void setupLogger() {
+        BasicConfigurator.configure(); // configures logger
+    }
+
+    @BeforeEach
+    void setup() {
+        RestAssured.port = port;
+    }
+
+    @Order(1)
+    @Test
+    void testJsonIsTheDefault() {
+        delete(COURSES_URI).then().assertThat().statusCode(HttpStatus.OK.value());
+        for (int i = 0; i < COURSE_COUNT; i++) {
+            with().body(testCourse)
+                .contentType(ContentType.JSON)
+                .post(COURSES_URI).then()
+                .assertThat()
+                .statusCode(HttpStatus.CREATED.value());
+        }
+
+        get(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .contentType(ContentType.JSON);
+    }
+
+    @Order(2)
+    @Test
+    void testCborResponse() throws IOException {
+        byte[] body = given().accept("application/cbor")
+            .get(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .contentType(startsWith("application/cbor"))
+            .extract().asByteArray();
+
+        int items = new CBORMapper().readTree(body).get("items").size();
+        assertThat(items, equalTo(COURSE_COUNT));
+    }
+
+    @Order(3)
+    @Test
+    void testSmileResponse() {
+        given().accept("application/x-jackson-smile")
+            .get(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .contentType(startsWith("application/x-jackson-smile"));
+    }
+
+    @Order(4)
+    @Test
+    void testProtobufResponse() {
+        given().accept("application/x-protobuf")
+            .get(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .contentType(startsWith("application/x-protobuf"));
+    }
+
+    @Order(5)
+    @Test
+    void testLargeResponseCompressed() {
+        given().header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+            .get(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .header(HttpHeaders.CONTENT_ENCODING, "gzip");
+    }
+
+    @Order(6)
+    @Test
+    void testCleanup() {
+        delete(COURSES_URI).then().assertThat().statusCode(HttpStatus.OK.value());
+    }
+}
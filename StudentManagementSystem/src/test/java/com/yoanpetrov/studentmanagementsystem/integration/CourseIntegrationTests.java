@@ -14,11 +14,13 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ActiveProfiles;
 
-import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 
 import static io.restassured.RestAssured.*;
 import static io.restassured.RestAssured.given;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -36,6 +38,8 @@ public class CourseIntegrationTests {
     private Course updatedCourse;
     @Autowired
     private User testUser;
+    @Autowired
+    private QueryBudget queryBudget;
 
     @LocalServerPort
     private int port;
@@ -66,25 +70,27 @@ public class CourseIntegrationTests {
     @Order(2)
     @Test
     void testGetAllCourses() {
-        Course[] courses = get(BASE_URI).then()
+        // listing ETag, page
+        List<Course> courses = queryBudget.assertWithin(2, () -> get(BASE_URI).then()
             .statusCode(HttpStatus.OK.value())
-            .extract().as(Course[].class);
+            .extract().jsonPath().getList("items", Course.class));
 
-        assertThat(courses.length, equalTo(1));
-        assertTrue(Arrays.stream(courses).toList().contains(testCourse));
+        assertThat(courses.size(), equalTo(1));
+        assertTrue(courses.contains(testCourse));
     }
 
     @Order(3)
     @Test
     void testGetCourseById() {
-        with().get(BASE_URI + "/1").then()
+        // version, course
+        queryBudget.assertWithin(2, () -> with().get(BASE_URI + "/1").then()
             .assertThat()
             .body(
                 "courseId", equalTo(1),
                 "name", equalTo("Test"),
                 "description", equalTo("Test description"),
                 "maxCapacity", equalTo(10),
-                "numberOfStudents", equalTo(0));
+                "numberOfStudents", equalTo(0)));
     }
 
     @Order(4)
@@ -115,28 +121,44 @@ public class CourseIntegrationTests {
 
     @Order(6)
     @Test
+    void testAddUsersToCourse() {
+        with().body(Map.of("userIds", List.of(1, 404)))
+            .contentType(ContentType.JSON)
+            .post(BASE_URI + "/1/users").then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .and()
+            .body(
+                "userId", contains(1, 404),
+                "status", contains("ALREADY_ENROLLED", "NOT_FOUND"));
+    }
+
+    @Order(7)
+    @Test
     void testGetAllCourseUsers() {
-        User[] users = get(BASE_URI + "/1/users").then()
+        // page
+        List<User> users = queryBudget.assertWithin(1, () -> get(BASE_URI + "/1/users").then()
             .statusCode(HttpStatus.OK.value())
-            .extract().as(User[].class);
+            .extract().jsonPath().getList("items", User.class));
 
-        assertThat(users.length, equalTo(1));
-        assertTrue(Arrays.stream(users).toList().contains(testUser));
+        assertThat(users.size(), equalTo(1));
+        assertTrue(users.contains(testUser));
     }
 
-    @Order(7)
+    @Order(8)
     @Test
     void testRemoveUserFromCourse() {
         with().contentType(ContentType.JSON)
             .delete(BASE_URI + "/1/users/1").then()
             .assertThat()
             .statusCode(HttpStatus.OK.value());
-        given().get(BASE_URI + "/1/users").then()
+        // empty page, course existence
+        queryBudget.assertWithin(2, () -> given().get(BASE_URI + "/1/users").then()
             .assertThat()
-            .statusCode(HttpStatus.NO_CONTENT.value());
+            .statusCode(HttpStatus.NO_CONTENT.value()));
     }
 
-    @Order(8)
+    @Order(9)
     @Test
     void testRemoveCourseById() {
         testCourse.setCourseId(2L);
@@ -150,7 +172,7 @@ public class CourseIntegrationTests {
             .statusCode(HttpStatus.OK.value());
     }
 
-    @Order(9)
+    @Order(10)
     @Test
     void testRemoveAllCourses() {
         given().delete(BASE_URI).then()
@@ -0,0 +1,174 @@
+package com.yoanpetrov.studentmanagementsystem.integration;
+
+import com.yoanpetrov.studentmanagementsystem.entities.Course;
+import com.yoanpetrov.studentmanagementsystem.entities.User;
+import com.yoanpetrov.studentmanagementsystem.integration.config.TestConfig;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.apache.log4j.BasicConfigurator;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static io.restassured.RestAssured.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.equalTo;
+
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ETagIntegrationTests {
+
+    private static final String COURSES_URI = "api/v1/courses";
+    private static final String USERS_URI = "api/v1/users";
+
+    private static String courseETag;
+    private static String coursesETag;
+
+    @Autowired
+    private Course testCourse;
+    @Autowired
+    private Course updatedCourse;
+    @Autowired
+    private User testUser;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeAll
+    static void setupLogger() {
+        BasicConfigurator.configure(); // configures logger
+    }
+
+    @BeforeEach
+    void setup() {
+        RestAssured.port = port;
+    }
+
+    @Order(1)
+    @Test
+    void testUnchangedCourseNotModified() {
+        delete(USERS_URI).then().assertThat().statusCode(HttpStatus.OK.value());
+        delete(COURSES_URI).then().assertThat().statusCode(HttpStatus.OK.value());
+        with().body(testCourse)
+            .contentType(ContentType.JSON)
+            .post(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.CREATED.value());
+
+        courseETag = get(COURSES_URI + "/1").then()
+            .statusCode(HttpStatus.OK.value())
+            .extract().header(HttpHeaders.ETAG);
+        given().header(HttpHeaders.IF_NONE_MATCH, courseETag)
+            .get(COURSES_URI + "/1").then()
+            .assertThat()
+            .statusCode(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @Order(2)
+    @Test
+    void testUnchangedCourseListingNotModified() {
+        coursesETag = get(COURSES_URI).then()
+            .statusCode(HttpStatus.OK.value())
+            .extract().header(HttpHeaders.ETAG);
+        given().header(HttpHeaders.IF_NONE_MATCH, coursesETag)
+            .get(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @Order(3)
+    @Test
+    void testCourseListingVariantsHaveOwnETags() {
+        String pageETag = given().queryParam("size", 1)
+            .get(COURSES_URI).then()
+            .statusCode(HttpStatus.OK.value())
+            .extract().header(HttpHeaders.ETAG);
+        String cborETag = given().accept("application/cbor")
+            .get(COURSES_URI).then()
+            .statusCode(HttpStatus.OK.value())
+            .extract().header(HttpHeaders.ETAG);
+        assertThat(pageETag, not(equalTo(coursesETag)));
+        assertThat(cborETag, not(equalTo(coursesETag)));
+
+        given().header(HttpHeaders.IF_NONE_MATCH, coursesETag)
+            .queryParam("size", 1)
+            .get(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value());
+        given().header(HttpHeaders.IF_NONE_MATCH, pageETag)
+            .queryParam("size", 1)
+            .get(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @Order(4)
+    @Test
+    void testSeatChangeModifiesCourseAndListing() {
+        with().body(testUser)
+            .contentType(ContentType.JSON)
+            .post(USERS_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.CREATED.value());
+        with().contentType(ContentType.JSON)
+            .post(COURSES_URI + "/1/users/1").then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value());
+
+        String newCourseETag = given().header(HttpHeaders.IF_NONE_MATCH, courseETag)
+            .get(COURSES_URI + "/1").then()
+            .statusCode(HttpStatus.OK.value())
+            .body("numberOfStudents", equalTo(1))
+            .extract().header(HttpHeaders.ETAG);
+        assertThat(newCourseETag, not(equalTo(courseETag)));
+        given().header(HttpHeaders.IF_NONE_MATCH, coursesETag)
+            .get(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value());
+    }
+
+    @Order(5)
+    @Test
+    void testUpdateModifiesCourse() {
+        String currentETag = get(COURSES_URI + "/1").then()
+            .extract().header(HttpHeaders.ETAG);
+        with().body(updatedCourse)
+            .contentType(ContentType.JSON)
+            .put(COURSES_URI + "/1").then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value());
+
+        given().header(HttpHeaders.IF_NONE_MATCH, currentETag)
+            .get(COURSES_URI + "/1").then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .body("description", equalTo("Updated test description"));
+    }
+
+    @Order(6)
+    @Test
+    void testUnchangedUserNotModified() {
+        String userETag = get(USERS_URI + "/1").then()
+            .statusCode(HttpStatus.OK.value())
+            .extract().header(HttpHeaders.ETAG);
+        given().header(HttpHeaders.IF_NONE_MATCH, userETag)
+            .get(USERS_URI + "/1").then()
+            .assertThat()
+            .statusCode(HttpStatus.NOT_MODIFIED.value());
+    }
+
+    @Order(7)
+    @Test
+    void testCleanup() {
+        delete(USERS_URI).then().assertThat().statusCode(HttpStatus.OK.value());
+        delete(COURSES_URI).then().assertThat().statusCode(HttpStatus.OK.value());
+    }
+}
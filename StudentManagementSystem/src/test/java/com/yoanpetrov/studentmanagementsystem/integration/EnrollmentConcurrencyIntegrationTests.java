@@ -0,0 +1,154 @@
+package com.yoanpetrov.studentmanagementsystem.integration;
+
+import com.yoanpetrov.studentmanagementsystem.entities.Course;
+import com.yoanpetrov.studentmanagementsystem.entities.User;
+import com.yoanpetrov.studentmanagementsystem.integration.config.TestConfig;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.apache.log4j.BasicConfigurator;
+import org.junit.jupiter.api.*;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static io.restassured.RestAssured.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Fires many enrollments at the same course at once and checks that no seat is ever given out twice.
+ */
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class EnrollmentConcurrencyIntegrationTests {
+
+    private static final String COURSES_URI = "api/v1/courses";
+    private static final String USERS_URI = "api/v1/users";
+    private static final int CAPACITY = 10;
+    private static final int CONTENDERS = 50;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeAll
+    static void setupLogger() {
+        BasicConfigurator.configure(); // configures logger
+    }
+
+    @BeforeEach
+    void setup() {
+        RestAssured.port = port;
+    }
+
+    @Order(1)
+    @Test
+    void testConcurrentEnrollmentsDoNotExceedCapacity() throws Exception {
+        delete(COURSES_URI).then().assertThat().statusCode(HttpStatus.OK.value());
+        delete(USERS_URI).then().assertThat().statusCode(HttpStatus.OK.value());
+        long courseId = createCourse("Crowded");
+        List<Long> userIds = new ArrayList<>();
+        for (int i = 0; i < CONTENDERS; i++) {
+            userIds.add(createUser(i));
+        }
+
+        List<Integer> statusCodes = runConcurrently(userIds.stream()
+            .map(userId -> (Callable<Integer>) () -> post(COURSES_URI + "/" + courseId + "/users/" + userId)
+                .statusCode())
+            .toList());
+
+        assertThat(count(statusCodes, HttpStatus.OK), equalTo(CAPACITY));
+        assertThat(count(statusCodes, HttpStatus.CONFLICT), equalTo(CONTENDERS - CAPACITY));
+        assertSeats(courseId, CAPACITY);
+    }
+
+    @Order(2)
+    @Test
+    void testConcurrentEnrollmentsOfSameUserTakeOneSeat() throws Exception {
+        long courseId = createCourse("Contested");
+        long userId = createUser(CONTENDERS);
+
+        List<Callable<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < CONTENDERS; i++) {
+            tasks.add(() -> post(COURSES_URI + "/" + courseId + "/users/" + userId).statusCode());
+        }
+        List<Integer> statusCodes = runConcurrently(tasks);
+
+        assertThat(count(statusCodes, HttpStatus.OK), equalTo(1));
+        assertThat(count(statusCodes, HttpStatus.CONFLICT), equalTo(CONTENDERS - 1));
+        assertSeats(courseId, 1);
+    }
+
+    private long createCourse(String name) {
+        Course course = Course.builder()
+            .name(name)
+            .description("Concurrency test")
+            .maxCapacity(CAPACITY)
+            .build();
+        return with().body(course)
+            .contentType(ContentType.JSON)
+            .post(COURSES_URI).then()
+            .statusCode(HttpStatus.CREATED.value())
+            .extract().jsonPath().getLong("courseId");
+    }
+
+    private long createUser(int index) {
+        User user = User.builder()
+            .firstName("Contender")
+            .lastName(String.valueOf(index))
+            .email("contender" + index + "@test.com")
+            .build();
+        return with().body(user)
+            .contentType(ContentType.JSON)
+            .post(USERS_URI).then()
+            .statusCode(HttpStatus.CREATED.value())
+            .extract().jsonPath().getLong("userId");
+    }
+
+    private void assertSeats(long courseId, int expected) {
+        get(COURSES_URI + "/" + courseId).then()
+            .assertThat()
+            .body("numberOfStudents", equalTo(expected));
+        List<User> users = given().queryParam("size", CONTENDERS)
+            .get(COURSES_URI + "/" + courseId + "/users").then()
+            .statusCode(HttpStatus.OK.value())
+            .extract().jsonPath().getList("items", User.class);
+        assertThat(users.size(), equalTo(expected));
+    }
+
+    /**
+     * Releases all tasks at the same moment and waits for their results.
+     */
+    private static List<Integer> runConcurrently(List<Callable<Integer>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (Callable<Integer> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            List<Integer> results = new ArrayList<>();
+            for (Future<Integer> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int count(List<Integer> statusCodes, HttpStatus status) {
+        return (int) statusCodes.stream().filter(code -> code == status.value()).count();
+    }
+}
@@ -0,0 +1,131 @@
+package com.yoanpetrov.studentmanagementsystem.integration;
+
+import com.yoanpetrov.studentmanagementsystem.dto.UserAccountDto;
+import com.yoanpetrov.studentmanagementsystem.entities.User;
+import com.yoanpetrov.studentmanagementsystem.entities.UserAccount;
+import com.yoanpetrov.studentmanagementsystem.integration.config.TestConfig;
+import com.yoanpetrov.studentmanagementsystem.repositories.CourseRepository;
+import com.yoanpetrov.studentmanagementsystem.repositories.UserAccountRepository;
+import com.yoanpetrov.studentmanagementsystem.repositories.UserRepository;
+import com.yoanpetrov.studentmanagementsystem.security.Role;
+import com.yoanpetrov.studentmanagementsystem.services.UserAccountService;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.apache.log4j.BasicConfigurator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static io.restassured.RestAssured.with;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ExportIntegrationTests {
+
+    private static final String LOGIN_URI = "api/v1/login";
+    private static final String EXPORT_USERS_URI = "api/v1/export/users";
+    private static final String EXPORT_COURSES_URI = "api/v1/export/courses";
+    private static final String NDJSON = "application/x-ndjson";
+    private static final String PASSWORD = "export-password";
+    private static final int USERS_TO_EXPORT = 3;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+    @Autowired
+    private UserAccountService userAccountService;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeAll
+    static void setupLogger() {
+        BasicConfigurator.configure(); // configures logger
+    }
+
+    @BeforeEach
+    void setup() {
+        RestAssured.port = port;
+    }
+
+    @Test
+    void testExportUsersWritesOneLinePerUser() {
+        for (int i = 0; i < USERS_TO_EXPORT; i++) {
+            userRepository.save(User.builder()
+                .firstName("Export")
+                .lastName("User" + i)
+                .email("export" + i + "@example.com")
+                .build());
+        }
+        String accessToken = login("export-admin", Role.ADMIN);
+        long users = userRepository.count();
+
+        String body = with().header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+            .get(EXPORT_USERS_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .contentType(startsWith(NDJSON))
+            .extract().asString();
+
+        assertEquals(users, body.lines().count());
+        body.lines().forEach(line -> assertEquals('{', line.charAt(0)));
+    }
+
+    @Test
+    void testExportCoursesWritesOneLinePerCourse() {
+        String accessToken = login("export-admin", Role.ADMIN);
+        long courses = courseRepository.count();
+
+        String body = with().header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+            .get(EXPORT_COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .contentType(startsWith(NDJSON))
+            .extract().asString();
+
+        assertEquals(courses, body.lines().count());
+    }
+
+    @Test
+    void testExportUsersAsStudentIsUnauthorized() {
+        String accessToken = login("export-student", Role.STUDENT);
+
+        with().header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+            .get(EXPORT_USERS_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    /**
+     * Creates an account with the given role, unless it exists, and logs into it.
+     * The account is created through the service, as registering only creates student accounts.
+     */
+    private String login(String username, Role role) {
+        if (!userAccountRepository.existsByUsername(username)) {
+            userAccountService.createUserAccount(UserAccount.builder()
+                .username(username)
+                .password(PASSWORD)
+                .role(role)
+                .build());
+        }
+        return with().body(new UserAccountDto(username, PASSWORD))
+            .contentType(ContentType.JSON)
+            .post(LOGIN_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .extract().path("accessToken");
+    }
+}
@@ -0,0 +1,161 @@
+package com.yoanpetrov.studentmanagementsystem.integration;
+
+import com.yoanpetrov.studentmanagementsystem.dto.AuthenticationResponse;
+import com.yoanpetrov.studentmanagementsystem.dto.UserAccountDto;
+import com.yoanpetrov.studentmanagementsystem.entities.UserAccount;
+import com.yoanpetrov.studentmanagementsystem.exceptions.ResourceNotFoundException;
+import com.yoanpetrov.studentmanagementsystem.integration.config.TestConfig;
+import com.yoanpetrov.studentmanagementsystem.repositories.UserAccountRepository;
+import com.yoanpetrov.studentmanagementsystem.security.AccountPrincipal;
+import com.yoanpetrov.studentmanagementsystem.services.AuthenticationService;
+import com.yoanpetrov.studentmanagementsystem.services.JwtService;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import jakarta.persistence.EntityManagerFactory;
+import org.apache.log4j.BasicConfigurator;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static io.restassured.RestAssured.with;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Measures the login throughput and the statements run per login, for the login through
+ * an {@code AuthenticationManager} that the app used before, and for the current one, in the same run.
+ * Both are called in-process from {@code THREADS} threads, so that the HTTP handling does not dilute the difference,
+ * and their ratio is reported.
+ * Excluded from the default build, run with {@code mvn test -P benchmark}.
+ */
+@Tag("benchmark")
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class LoginThroughputBenchmarkTests {
+
+    private static final String REGISTER_URI = "api/v1/register";
+    private static final int THREADS = 8;
+    private static final int LOGINS_PER_THREAD = 50;
+
+    private final UserAccountDto credentials = new UserAccountDto("login-benchmark", "benchmark-password");
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private AuthenticationService authenticationService;
+    @Autowired
+    private AuthenticationProvider authenticationProvider;
+    @Autowired
+    private UserAccountRepository accountRepository;
+    @Autowired
+    private JwtService jwtService;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeAll
+    static void setupLogger() {
+        BasicConfigurator.configure(); // configures logger
+    }
+
+    @BeforeEach
+    void setup() {
+        RestAssured.port = port;
+    }
+
+    @Test
+    void benchmarkLoginThroughput(TestReporter reporter) throws Exception {
+        if (!accountRepository.existsByUsername(credentials.getUsername())) {
+            with().body(credentials)
+                .contentType(ContentType.JSON)
+                .post(REGISTER_URI).then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value());
+        }
+        AuthenticationManager authenticationManager = new ProviderManager(authenticationProvider);
+        Runnable managerLogin = () -> loginThroughManager(authenticationManager);
+        Runnable currentLogin = () -> authenticationService.authenticateUser(credentials);
+        managerLogin.run(); // warm-up
+        currentLogin.run();
+
+        Measurement manager = measure(managerLogin);
+        Measurement current = measure(currentLogin);
+
+        reporter.publishEntry(Map.of(
+            "logins", String.valueOf(THREADS * LOGINS_PER_THREAD),
+            "manager", manager.toString(),
+            "current", current.toString(),
+            "throughput ratio", String.format("%.2f", current.loginsPerSecond() / manager.loginsPerSecond())));
+        assertThat(current.statementsPerLogin(), lessThanOrEqualTo(1.0));
+        assertThat(current.statementsPerLogin(), lessThanOrEqualTo(manager.statementsPerLogin()));
+    }
+
+    /**
+     * Logs in as the app did before: loads the account, then authenticates the credentials
+     * with a {@code ProviderManager}, which loads the account again through the {@code DaoAuthenticationProvider}.
+     */
+    private AuthenticationResponse loginThroughManager(AuthenticationManager authenticationManager) {
+        UserAccount account = accountRepository.findByUsername(credentials.getUsername())
+            .orElseThrow(() -> new ResourceNotFoundException("The user account does not exist"));
+        authenticationManager.authenticate(
+            new UsernamePasswordAuthenticationToken(credentials.getUsername(), credentials.getPassword()));
+        return AuthenticationResponse.builder()
+            .accessToken(jwtService.generateToken(AccountPrincipal.of(account)))
+            .refreshToken("")
+            .build();
+    }
+
+    private Measurement measure(Runnable login) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long statementsBefore = statistics.getPrepareStatementCount();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long start = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < LOGINS_PER_THREAD; j++) {
+                    login.run();
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        int logins = THREADS * LOGINS_PER_THREAD;
+        return new Measurement(
+            logins / (elapsed / 1e9),
+            (double) (statistics.getPrepareStatementCount() - statementsBefore) / logins,
+            TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    private record Measurement(double loginsPerSecond, double statementsPerLogin, long elapsedMillis) {
+
+        @Override
+        public String toString() {
+            return String.format("%.1f logins/s, %.2f statements per login, %d ms",
+                loginsPerSecond, statementsPerLogin, elapsedMillis);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.yoanpetrov.studentmanagementsystem.integration;
+
+import com.yoanpetrov.studentmanagementsystem.integration.config.TestConfig;
+import io.restassured.RestAssured;
+import org.apache.log4j.BasicConfigurator;
+import org.junit.jupiter.api.*;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static io.restassured.RestAssured.*;
+import static org.hamcrest.Matchers.containsString;
+
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "management.server.port=0"
+)
+public class MetricsIntegrationTests {
+
+    private static final String COURSES_URI = "api/v1/courses";
+    private static final String PROMETHEUS_URI = "actuator/prometheus";
+
+    @LocalServerPort
+    private int port;
+    @LocalManagementPort
+    private int managementPort;
+
+    @BeforeAll
+    static void setupLogger() {
+        BasicConfigurator.configure(); // configures logger
+    }
+
+    @BeforeEach
+    void setup() {
+        RestAssured.port = port;
+    }
+
+    @Order(1)
+    @Test
+    void testRequestLatencyExposedPerRoute() {
+        get(COURSES_URI);
+
+        given().port(managementPort)
+            .get(PROMETHEUS_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .body(containsString("http_server_requests_seconds_bucket"))
+            .body(containsString("uri=\"/api/v1/courses\""))
+            .body(containsString("handler=\"CourseController#getAllCourses\""));
+    }
+
+    @Order(2)
+    @Test
+    void testPoolHibernateAndLoggingStatisticsExposed() {
+        given().port(managementPort)
+            .get(PROMETHEUS_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .body(containsString("hikaricp_connections_active"))
+            .body(containsString("hibernate_statements_total"))
+            .body(containsString("http_server_requests_active_seconds"))
+            .body(containsString("logging_events_dropped_total"));
+    }
+
+    @Order(3)
+    @Test
+    void testMetricsNotServedOnApplicationPort() {
+        get(PROMETHEUS_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+}
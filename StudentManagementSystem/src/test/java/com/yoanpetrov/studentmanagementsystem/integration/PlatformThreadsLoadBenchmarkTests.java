@@ -0,0 +1,26 @@
+package com.yoanpetrov.studentmanagementsystem.integration;
+
+import com.yoanpetrov.studentmanagementsystem.integration.config.TestConfig;
+import org.junit.jupiter.api.Tag;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs the concurrent load benchmark against Tomcat's default platform thread pool.
+ * Excluded from the default build, run with {@code mvn test -P benchmark}.
+ */
+@Tag("benchmark")
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "test.security.enabled=true"
+)
+public class PlatformThreadsLoadBenchmarkTests extends ConcurrentLoadBenchmark {
+
+    @Override
+    String mode() {
+        return "Platform";
+    }
+}
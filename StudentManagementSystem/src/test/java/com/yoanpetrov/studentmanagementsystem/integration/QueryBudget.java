@@ -0,0 +1,49 @@
+package com.yoanpetrov.studentmanagementsystem.integration;
+
+import com.yoanpetrov.studentmanagementsystem.timing.StatementCountingInspector;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the number of SQL statements a request runs against its budget.
+ * The statements are counted by the application's {@code StatementCountingInspector} from before the request is sent
+ * until its whole response has been read, so statements run while the body is written are counted too.
+ * The tests run their requests one at a time, so the statements in between belong to the checked request.
+ */
+public class QueryBudget {
+
+    private final StatementCountingInspector inspector;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public QueryBudget(StatementCountingInspector inspector, EntityManagerFactory entityManagerFactory) {
+        this.inspector = inspector;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Sends a request and fails if it ran more statements than its budget,
+     * or if no statement was counted at all, as then the statements are not being counted.
+     *
+     * @param maxStatements the budget of the request.
+     * @param request       sends the request and reads its response.
+     * @param <T>           the type of what is read from the response.
+     * @return what was read from the response.
+     */
+    public <T> T assertWithin(int maxStatements, Supplier<T> request) {
+        assertSame(inspector, entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getSessionFactoryOptions().getStatementInspector(),
+            "Hibernate does not use the StatementCountingInspector");
+        long before = inspector.getStatementCount();
+        T response = request.get();
+        long statements = inspector.getStatementCount() - before;
+        assertTrue(statements > 0, "No SQL statement was counted for the request");
+        assertTrue(statements <= maxStatements,
+            "The request ran " + statements + " SQL statements, over its budget of " + maxStatements);
+        return response;
+    }
+}
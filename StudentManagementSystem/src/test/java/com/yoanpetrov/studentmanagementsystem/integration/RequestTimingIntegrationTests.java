@@ -0,0 +1,141 @@
+package com.yoanpetrov.studentmanagementsystem.integration;
+
+import com.yoanpetrov.studentmanagementsystem.dto.UserAccountDto;
+import com.yoanpetrov.studentmanagementsystem.entities.Course;
+import com.yoanpetrov.studentmanagementsystem.entities.UserAccount;
+import com.yoanpetrov.studentmanagementsystem.integration.config.TestConfig;
+import com.yoanpetrov.studentmanagementsystem.repositories.CourseRepository;
+import com.yoanpetrov.studentmanagementsystem.repositories.UserAccountRepository;
+import com.yoanpetrov.studentmanagementsystem.security.Role;
+import com.yoanpetrov.studentmanagementsystem.services.UserAccountService;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.apache.log4j.BasicConfigurator;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static io.restassured.RestAssured.*;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "application.timing.server-timing-header=true"
+)
+public class RequestTimingIntegrationTests {
+
+    private static final String COURSES_URI = "api/v1/courses";
+    private static final String EXPORT_COURSES_URI = "api/v1/export/courses";
+    private static final String PASSWORD = "timing-password";
+
+    @Autowired
+    private Course testCourse;
+    @Autowired
+    private CourseRepository courseRepository;
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+    @Autowired
+    private UserAccountService userAccountService;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeAll
+    static void setupLogger() {
+        BasicConfigurator.configure(); // configures logger
+    }
+
+    @BeforeEach
+    void setup() {
+        RestAssured.port = port;
+    }
+
+    @Order(1)
+    @Test
+    void testServerTimingHeaderHasPhases() {
+        delete(COURSES_URI).then().assertThat().statusCode(HttpStatus.OK.value());
+        with().body(testCourse)
+            .contentType(ContentType.JSON)
+            .post(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.CREATED.value());
+
+        get(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .header("Server-Timing", allOf(
+                containsString("db;dur="),
+                containsString("ser;dur="),
+                containsString("total;dur=")));
+    }
+
+    @Order(2)
+    @Test
+    void testServerTimingHeaderOnEmptyResponse() {
+        delete(COURSES_URI).then().assertThat().statusCode(HttpStatus.OK.value());
+
+        get(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.NO_CONTENT.value())
+            .header("Server-Timing", containsString("total;dur="));
+    }
+
+    @Order(3)
+    @Test
+    void testStreamedExportIsWrittenWithTimingEnabled() {
+        String username = "timing-admin";
+        if (!userAccountRepository.existsByUsername(username)) {
+            userAccountService.createUserAccount(UserAccount.builder()
+                .username(username)
+                .password(PASSWORD)
+                .role(Role.ADMIN)
+                .build());
+        }
+        String accessToken = with().body(new UserAccountDto(username, PASSWORD))
+            .contentType(ContentType.JSON)
+            .post("api/v1/login").then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .extract().path("accessToken");
+        long courses = courseRepository.count();
+
+        String body = with().header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+            .get(EXPORT_COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .contentType(startsWith("application/x-ndjson"))
+            .extract().asString();
+
+        assertEquals(courses, body.lines().count());
+    }
+
+    @Order(4)
+    @Test
+    void testServerTimingHeaderTimesEveryFormat() {
+        with().body(testCourse)
+            .contentType(ContentType.JSON)
+            .post(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.CREATED.value());
+
+        for (String format : new String[]{"application/cbor", "application/x-jackson-smile", "application/x-protobuf"}) {
+            given().accept(format)
+                .get(COURSES_URI).then()
+                .assertThat()
+                .statusCode(HttpStatus.OK.value())
+                .contentType(startsWith(format))
+                .header("Server-Timing", containsString("ser;dur="));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.yoanpetrov.studentmanagementsystem.integration;
+
+import com.yoanpetrov.studentmanagementsystem.dto.UserAccountDto;
+import com.yoanpetrov.studentmanagementsystem.entities.TokenRevocation;
+import com.yoanpetrov.studentmanagementsystem.entities.User;
+import com.yoanpetrov.studentmanagementsystem.entities.UserAccount;
+import com.yoanpetrov.studentmanagementsystem.integration.config.TestConfig;
+import com.yoanpetrov.studentmanagementsystem.repositories.TokenRevocationRepository;
+import com.yoanpetrov.studentmanagementsystem.security.Role;
+import com.yoanpetrov.studentmanagementsystem.services.UserAccountService;
+import com.yoanpetrov.studentmanagementsystem.services.UserService;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.apache.log4j.BasicConfigurator;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+import static io.restassured.RestAssured.with;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the tokens of deleted users are rejected when requests are authenticated from the token claims alone.
+ * Runs with security enabled, as the rejection is the work of the security filter chain.
+ * The revocations are also expected in the database, where the non-blocking API reads them.
+ */
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "test.security.enabled=true",
+        "application.security.jwt.stateless-authentication=true"
+    }
+)
+public class TokenRevocationIntegrationTests {
+
+    private static final String LOGIN_URI = "api/v1/login";
+    private static final String USERS_URI = "api/v1/users";
+    private static final String PASSWORD = "revocation-password";
+
+    @Autowired
+    private UserAccountService userAccountService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private TokenRevocationRepository revocationRepository;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeAll
+    static void setupLogger() {
+        BasicConfigurator.configure(); // configures logger
+    }
+
+    @BeforeEach
+    void setup() {
+        RestAssured.port = port;
+    }
+
+    @Test
+    void testTokenOfDeletedUserIsUnauthorized() {
+        UserAccount account = createStudent();
+        Long userId = account.getUser().getUserId();
+        String accessToken = login(account.getUsername());
+        getCoursesOfUser(userId, accessToken, HttpStatus.NO_CONTENT);
+
+        userService.deleteUser(userId);
+
+        getCoursesOfUser(userId, accessToken, HttpStatus.UNAUTHORIZED);
+        assertTrue(revocationRepository.existsById(account.getUsername()));
+    }
+
+    @Test
+    void testTokensAreUnauthorizedAfterDeletingAllUsers() {
+        UserAccount account = createStudent();
+        Long userId = account.getUser().getUserId();
+        String accessToken = login(account.getUsername());
+        getCoursesOfUser(userId, accessToken, HttpStatus.NO_CONTENT);
+
+        userService.deleteAllUsers();
+
+        getCoursesOfUser(userId, accessToken, HttpStatus.UNAUTHORIZED);
+        assertTrue(revocationRepository.existsById(TokenRevocation.ALL_ACCOUNTS));
+    }
+
+    private UserAccount createStudent() {
+        return userAccountService.createUserAccount(UserAccount.builder()
+            .username("revoked-" + System.nanoTime())
+            .password(PASSWORD)
+            .role(Role.STUDENT)
+            .user(User.builder()
+                .firstName("Revoked")
+                .lastName("User")
+                .email("revoked@test.com")
+                .build())
+            .build());
+    }
+
+    private String login(String username) {
+        return with().body(new UserAccountDto(username, PASSWORD))
+            .contentType(ContentType.JSON)
+            .post(LOGIN_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.OK.value())
+            .extract().path("accessToken");
+    }
+
+    private void getCoursesOfUser(Long userId, String accessToken, HttpStatus expectedStatus) {
+        with().header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+            .get(USERS_URI + "/" + userId + "/courses").then()
+            .assertThat()
+            .statusCode(expectedStatus.value());
+    }
+}
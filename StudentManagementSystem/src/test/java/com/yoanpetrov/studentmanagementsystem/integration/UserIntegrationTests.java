@@ -14,7 +14,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.ActiveProfiles;
 
-import java.util.Arrays;
+import java.util.List;
 
 import static io.restassured.RestAssured.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,6 +35,8 @@ public class UserIntegrationTests {
     private User updatedUser;
     @Autowired
     private Course testCourse;
+    @Autowired
+    private QueryBudget queryBudget;
 
     @LocalServerPort
     private int port;
@@ -65,24 +67,26 @@ public class UserIntegrationTests {
     @Order(2)
     @Test
     void testGetAllUsers() {
-        User[] users = get(BASE_URI).then()
+        // page
+        List<User> users = queryBudget.assertWithin(1, () -> get(BASE_URI).then()
             .statusCode(HttpStatus.OK.value())
-            .extract().as(User[].class);
+            .extract().jsonPath().getList("items", User.class));
 
-        assertThat(users.length, equalTo(1));
-        assertTrue(Arrays.stream(users).toList().contains(testUser));
+        assertThat(users.size(), equalTo(1));
+        assertTrue(users.contains(testUser));
     }
 
     @Order(3)
     @Test
     void testGetUserById() {
-        with().get(BASE_URI + "/1").then()
+        // version, user with its account
+        queryBudget.assertWithin(2, () -> with().get(BASE_URI + "/1").then()
             .assertThat()
             .body(
                 "userId", equalTo(1),
                 "firstName", equalTo("Test"),
                 "lastName", equalTo("User"),
-                "email", equalTo("test@test.com"));
+                "email", equalTo("test@test.com")));
     }
 
     @Order(4)
@@ -115,12 +119,13 @@ public class UserIntegrationTests {
     @Order(6)
     @Test
     void testGetAllUserCourses() {
-        Course[] courses = get(BASE_URI + "/1/courses").then()
+        // courses
+        List<Course> courses = queryBudget.assertWithin(1, () -> get(BASE_URI + "/1/courses").then()
             .statusCode(HttpStatus.OK.value())
-            .extract().as(Course[].class);
+            .extract().jsonPath().getList("items", Course.class));
 
-        assertThat(courses.length, equalTo(1));
-        assertTrue(Arrays.stream(courses).toList().contains(testCourse));
+        assertThat(courses.size(), equalTo(1));
+        assertTrue(courses.contains(testCourse));
     }
 
     @Order(7)
@@ -130,9 +135,10 @@ public class UserIntegrationTests {
             .delete(BASE_URI + "/1/courses/1").then()
             .assertThat()
             .statusCode(HttpStatus.OK.value());
-        given().get(BASE_URI + "/1/courses").then()
+        // no courses, user existence
+        queryBudget.assertWithin(2, () -> given().get(BASE_URI + "/1/courses").then()
             .assertThat()
-            .statusCode(HttpStatus.NO_CONTENT.value());
+            .statusCode(HttpStatus.NO_CONTENT.value()));
     }
 
     @Order(8)
@@ -159,4 +165,13 @@ public class UserIntegrationTests {
             .assertThat()
             .statusCode(HttpStatus.NO_CONTENT.value());
     }
+
+    @Order(10)
+    @Test
+    void testGetUsersWithTamperedCursor() {
+        given().queryParam("cursor", "SUQKMQo.c2lnbmF0dXJl")
+            .get(BASE_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
 }
@@ -0,0 +1,61 @@
+package com.yoanpetrov.studentmanagementsystem.integration;
+
+import com.yoanpetrov.studentmanagementsystem.integration.config.TestConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+
+/**
+ * Runs the concurrent load benchmark with request handling on virtual threads.
+ * Excluded from the default build, run with {@code mvn test -P benchmark} on Java 21 or later.
+ * Fails if a virtual thread was pinned to its carrier, as traced by {@code jdk.tracePinnedThreads}
+ * to the standard output, which is captured during the run.
+ */
+@Tag("benchmark")
+@EnabledForJreRange(min = JRE.JAVA_21)
+@Import(TestConfig.class)
+@ActiveProfiles("test")
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "test.security.enabled=true",
+        "application.threads.virtual.enabled=true",
+        "application.threads.virtual.trace-pinning=true"
+    })
+public class VirtualThreadsLoadBenchmarkTests extends ConcurrentLoadBenchmark {
+
+    private final ByteArrayOutputStream pinningTrace = new ByteArrayOutputStream();
+    private PrintStream standardOut;
+
+    @BeforeEach
+    void capturePinningTrace() {
+        standardOut = System.out;
+        System.setOut(new PrintStream(pinningTrace, true));
+    }
+
+    @AfterEach
+    void checkPinningTrace() {
+        System.setOut(standardOut);
+        String trace = pinningTrace.toString();
+        standardOut.print(trace);
+        // Every traced stack starts at the continuation's onPinned frame
+        assertThat(trace, not(containsString("onPinned")));
+    }
+
+    @Override
+    String mode() {
+        return "Virtual";
+    }
+}
@@ -3,24 +3,37 @@ package com.yoanpetrov.studentmanagementsystem.integration.config;
 import com.yoanpetrov.studentmanagementsystem.entities.Course;
 import com.yoanpetrov.studentmanagementsystem.entities.User;
 import com.yoanpetrov.studentmanagementsystem.entities.UserAccount;
+import com.yoanpetrov.studentmanagementsystem.integration.QueryBudget;
 import com.yoanpetrov.studentmanagementsystem.security.Role;
+import com.yoanpetrov.studentmanagementsystem.timing.StatementCountingInspector;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Profile;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 
 /**
- * Disables security for the tests.
+ * Disables security for the tests, unless they set {@code test.security.enabled=true}.
  */
 @Profile("test")
 @TestConfiguration
 public class TestConfig {
 
     @Bean
+    @ConditionalOnProperty(name = "test.security.enabled", havingValue = "false", matchIfMissing = true)
     public WebSecurityCustomizer webSecurityCustomizer() {
         return (web) -> web.ignoring().anyRequest();
     }
 
+    @Bean
+    public QueryBudget queryBudget(
+        StatementCountingInspector statementCountingInspector,
+        EntityManagerFactory entityManagerFactory
+    ) {
+        return new QueryBudget(statementCountingInspector, entityManagerFactory);
+    }
+
     @Bean
     public User testUser() {
         return User.builder()
@@ -0,0 +1,24 @@
+package com.yoanpetrov.studentmanagementsystem.reactive;
+
+import com.yoanpetrov.studentmanagementsystem.pagination.CursorCodec;
+import com.yoanpetrov.studentmanagementsystem.services.JwtService;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Main starting point of the non-blocking read-only API.
+ * Shares the token handling and the cursor encoding of the main application,
+ * so that tokens and cursors issued by either of them are accepted by both.
+ */
+@SpringBootApplication
+@Import({JwtService.class, CursorCodec.class})
+public class ReactiveMain {
+
+    /**
+     * Runs the application. The loggers are configured by {@code log4j2.xml}.
+     */
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveMain.class, args);
+    }
+}
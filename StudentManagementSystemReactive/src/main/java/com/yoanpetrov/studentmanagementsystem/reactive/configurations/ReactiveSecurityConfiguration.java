@@ -0,0 +1,60 @@
+package com.yoanpetrov.studentmanagementsystem.reactive.configurations;
+
+import com.yoanpetrov.studentmanagementsystem.reactive.security.BearerTokenConverter;
+import com.yoanpetrov.studentmanagementsystem.reactive.security.JwtReactiveAuthenticationManager;
+import com.yoanpetrov.studentmanagementsystem.reactive.security.UnauthorizedResponseWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.ServerAuthenticationEntryPointFailureHandler;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+/**
+ * Configures the authentication/authorization of the non-blocking API.
+ * Every request has to carry a bearer token issued by the main application, which is the only one that logs users in.
+ */
+@RequiredArgsConstructor
+@Configuration
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity(useAuthorizationManager = true)
+public class ReactiveSecurityConfiguration {
+
+    private final JwtReactiveAuthenticationManager authenticationManager;
+    private final BearerTokenConverter bearerTokenConverter;
+    private final UnauthorizedResponseWriter unauthorizedResponseWriter;
+
+    /**
+     * Builds the {@code SecurityWebFilterChain} bean.
+     * All endpoints have to be authenticated, and no security context is stored between requests.
+     *
+     * @param http the http security builder.
+     * @return the {@code SecurityWebFilterChain} bean.
+     */
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        var jwtFilter = new AuthenticationWebFilter(authenticationManager);
+        jwtFilter.setServerAuthenticationConverter(bearerTokenConverter);
+        jwtFilter.setAuthenticationFailureHandler(
+            new ServerAuthenticationEntryPointFailureHandler(unauthorizedResponseWriter));
+        jwtFilter.setSecurityContextRepository(NoOpServerSecurityContextRepository.getInstance());
+
+        return http
+            .authorizeExchange(c -> c.anyExchange().authenticated())
+            .csrf(ServerHttpSecurity.CsrfSpec::disable)
+            .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+            .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+            .logout(ServerHttpSecurity.LogoutSpec::disable)
+            .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+            .addFilterAt(jwtFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+            .exceptionHandling(c -> c
+                .authenticationEntryPoint(unauthorizedResponseWriter)
+                .accessDeniedHandler(unauthorizedResponseWriter))
+            .build();
+    }
+}
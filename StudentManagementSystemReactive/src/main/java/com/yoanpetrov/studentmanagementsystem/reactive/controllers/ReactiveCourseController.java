@@ -0,0 +1,106 @@
+package com.yoanpetrov.studentmanagementsystem.reactive.controllers;
+
+import com.yoanpetrov.studentmanagementsystem.entities.Course;
+import com.yoanpetrov.studentmanagementsystem.pagination.KeysetSort;
+import com.yoanpetrov.studentmanagementsystem.reactive.services.ReactiveCourseService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking rest controller for the read endpoints of the courses.
+ * Mirrors the paginated listings of the main application; the unpaged listings are only served there.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/courses")
+public class ReactiveCourseController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReactiveCourseController.class);
+
+    private final ReactiveCourseService courseService;
+
+    /**
+     * Gets a page of courses.
+     *
+     * @param sort   the sort of the courses, either id or name.
+     * @param cursor the cursor returned with the previous page, omitted for the first page.
+     * @param size   the page size, omitted for the default one.
+     * @return 204 if there are no existing courses,
+     * 200 and the page if there is at least 1 course,
+     * 400 if the cursor or the page size are invalid.
+     */
+    @GetMapping
+    public Mono<ResponseEntity<?>> getAllCourses(
+        @RequestParam(defaultValue = "id") String sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        LOG.debug("Getting a page of courses");
+        return Mono.fromCallable(() -> KeysetSort.fromParameter(sort))
+            .flatMap(keysetSort -> courseService.getCoursesPage(keysetSort, cursor, size))
+            .map(page -> {
+                if (page.getItems().isEmpty()) {
+                    LOG.debug("No existing courses, returning 204");
+                    return new ResponseEntity<>("No existing courses", HttpStatus.NO_CONTENT);
+                }
+                return new ResponseEntity<>(page, HttpStatus.OK);
+            });
+    }
+
+    /**
+     * Gets a course by its id.
+     *
+     * @param id the id of the course.
+     * @return 404 if the course was not found,
+     * 200 and the course if it was found.
+     */
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER') or @authenticationCheckerService.isUserEnrolledInCourse(#id)")
+    public Mono<ResponseEntity<Course>> getCourseById(@PathVariable Long id) {
+        LOG.debug("Getting course with id {}", id);
+        return courseService.getCourseById(id)
+            .map(course -> new ResponseEntity<>(course, HttpStatus.OK));
+    }
+
+    /**
+     * Gets a page of the users inside the course with the given id.
+     *
+     * @param id     the id of the course.
+     * @param sort   the sort of the users, either id or name (last name).
+     * @param cursor the cursor returned with the previous page, omitted for the first page.
+     * @param size   the page size, omitted for the default one.
+     * @return 200 and the page if everything is ok,
+     * 204 if there are no users in the course,
+     * 400 if the cursor or the page size are invalid,
+     * 404 if the course was not found.
+     */
+    @GetMapping("/{id}/users")
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER') or @authenticationCheckerService.isUserEnrolledInCourse(#id)")
+    public Mono<ResponseEntity<?>> getAllCourseUsers(
+        @PathVariable Long id,
+        @RequestParam(defaultValue = "id") String sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        LOG.debug("Getting a page of users in course with id {}", id);
+        return Mono.fromCallable(() -> KeysetSort.fromParameter(sort))
+            .flatMap(keysetSort -> courseService.getCourseUsersPage(id, keysetSort, cursor, size))
+            .map(page -> {
+                if (page.getItems().isEmpty()) {
+                    LOG.debug("No existing users in course, returning 204");
+                    return new ResponseEntity<>("No existing users in course", HttpStatus.NO_CONTENT);
+                }
+                return new ResponseEntity<>(page, HttpStatus.OK);
+            });
+    }
+}
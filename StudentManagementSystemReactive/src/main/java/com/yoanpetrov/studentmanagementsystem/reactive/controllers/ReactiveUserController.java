@@ -0,0 +1,62 @@
+package com.yoanpetrov.studentmanagementsystem.reactive.controllers;
+
+import com.yoanpetrov.studentmanagementsystem.pagination.KeysetSort;
+import com.yoanpetrov.studentmanagementsystem.reactive.services.ReactiveCourseService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking rest controller for the read endpoints of the users.
+ * Unlike the main application, it lists the courses of a user in pages, as every listing of this API is paginated.
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/users")
+public class ReactiveUserController {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ReactiveUserController.class);
+
+    private final ReactiveCourseService courseService;
+
+    /**
+     * Gets a page of the courses that the user with the given id has enrolled in.
+     *
+     * @param id     the id of the user.
+     * @param sort   the sort of the courses, either id or name.
+     * @param cursor the cursor returned with the previous page, omitted for the first page.
+     * @param size   the page size, omitted for the default one.
+     * @return 200 and the page if everything is ok,
+     * 204 if the user is not enrolled in any courses,
+     * 400 if the cursor or the page size are invalid,
+     * 404 if the user was not found.
+     */
+    @GetMapping("/{id}/courses")
+    @PreAuthorize("hasAnyRole('ADMIN', 'TEACHER') or @authenticationCheckerService.doUserIdsMatch(#id)")
+    public Mono<ResponseEntity<?>> getAllUserCourses(
+        @PathVariable Long id,
+        @RequestParam(defaultValue = "id") String sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false) Integer size
+    ) {
+        LOG.debug("Getting a page of courses of user with id {}", id);
+        return Mono.fromCallable(() -> KeysetSort.fromParameter(sort))
+            .flatMap(keysetSort -> courseService.getUserCoursesPage(id, keysetSort, cursor, size))
+            .map(page -> {
+                if (page.getItems().isEmpty()) {
+                    LOG.debug("No existing courses in user, returning 204");
+                    return new ResponseEntity<>("No existing courses", HttpStatus.NO_CONTENT);
+                }
+                return new ResponseEntity<>(page, HttpStatus.OK);
+            });
+    }
+}
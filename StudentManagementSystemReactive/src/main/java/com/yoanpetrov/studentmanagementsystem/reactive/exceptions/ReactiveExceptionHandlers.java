@@ -0,0 +1,46 @@
+package com.yoanpetrov.studentmanagementsystem.reactive.exceptions;
+
+import com.yoanpetrov.studentmanagementsystem.dto.ErrorResponse;
+import com.yoanpetrov.studentmanagementsystem.exceptions.BadRequestException;
+import com.yoanpetrov.studentmanagementsystem.exceptions.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+/**
+ * Maps the exceptions of the non-blocking API to the same responses as the main application.
+ */
+@RestControllerAdvice(basePackages = "com.yoanpetrov.studentmanagementsystem.reactive.controllers")
+@Slf4j
+public class ReactiveExceptionHandlers {
+
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<?> handleResourceNotFoundException(Throwable ex) {
+        log.debug("ResourceNotFoundException, returning 404. Message: {}", ex.getMessage());
+        return new ResponseEntity<>(new ErrorResponse(
+            "404",
+            ex.getMessage()),
+            HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(BadRequestException.class)
+    public ResponseEntity<?> handleBadRequestException(Throwable ex) {
+        log.debug("BadRequestException, returning 400. Message: {}", ex.getMessage());
+        return new ResponseEntity<>(new ErrorResponse(
+            "400",
+            ex.getMessage()),
+            HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(AccessDeniedException.class)
+    public ResponseEntity<?> handleAccessDeniedException(Throwable ex) {
+        log.debug("AccessDeniedException, returning 401. Message: {}", ex.getMessage());
+        return new ResponseEntity<>(new ErrorResponse(
+            "401",
+            "You are not authorized to access this endpoint"),
+            HttpStatus.UNAUTHORIZED);
+    }
+}
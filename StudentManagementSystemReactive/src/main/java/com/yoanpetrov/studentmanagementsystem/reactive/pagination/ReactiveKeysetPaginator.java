@@ -0,0 +1,85 @@
+package com.yoanpetrov.studentmanagementsystem.reactive.pagination;
+
+import com.yoanpetrov.studentmanagementsystem.dto.CursorPage;
+import com.yoanpetrov.studentmanagementsystem.exceptions.BadRequestException;
+import com.yoanpetrov.studentmanagementsystem.pagination.Cursor;
+import com.yoanpetrov.studentmanagementsystem.pagination.CursorCodec;
+import com.yoanpetrov.studentmanagementsystem.pagination.KeysetSort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * The non-blocking counterpart of the main application's {@code KeysetPaginator}.
+ * Uses the same cursors, scopes and page size limits, so a cursor returned by either API continues on the other.
+ */
+@RequiredArgsConstructor
+@Component
+public class ReactiveKeysetPaginator {
+
+    private final CursorCodec cursorCodec;
+
+    @Value("${application.pagination.default-page-size:50}")
+    private int defaultPageSize;
+    @Value("${application.pagination.max-page-size:500}")
+    private int maxPageSize;
+
+    /**
+     * Fetches a single page of a listing.
+     *
+     * @param scope    the listing the page belongs to, cursors are only valid within the same scope.
+     * @param sort     the sort of the listing.
+     * @param cursor   the cursor of the previous page, or null for the first page.
+     * @param size     the requested page size, or null for the default one.
+     * @param query    the query returning the rows after the given cursor, limited to the given number of rows.
+     * @param cursorOf creates the cursor pointing at a row.
+     * @param <T>      the type of the rows.
+     * @return the page, with a cursor to the next page if there are more rows,
+     * or an error with a {@code BadRequestException} if the cursor or the page size are invalid.
+     */
+    public <T> Mono<CursorPage<T>> paginate(
+        String scope,
+        KeysetSort sort,
+        String cursor,
+        Integer size,
+        BiFunction<Cursor, Integer, Flux<T>> query,
+        Function<T, Cursor> cursorOf
+    ) {
+        return Mono.fromCallable(() -> resolvePageSize(size))
+            .flatMap(pageSize -> {
+                Cursor after = cursor == null || cursor.isEmpty()
+                    ? Cursor.start(sort)
+                    : cursorCodec.decode(scope, sort, cursor);
+                // one extra row tells whether there is a next page without a count query
+                return query.apply(after, pageSize + 1)
+                    .collectList()
+                    .map(rows -> toPage(scope, rows, pageSize, cursorOf));
+            });
+    }
+
+    private <T> CursorPage<T> toPage(String scope, List<T> rows, int pageSize, Function<T, Cursor> cursorOf) {
+        if (rows.size() <= pageSize) {
+            return new CursorPage<>(rows, null);
+        }
+        List<T> items = new ArrayList<>(rows.subList(0, pageSize));
+        String nextCursor = cursorCodec.encode(scope, cursorOf.apply(items.get(pageSize - 1)));
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new BadRequestException("The page size must be at least 1");
+        }
+        return Math.min(size, maxPageSize);
+    }
+}
@@ -0,0 +1,114 @@
+package com.yoanpetrov.studentmanagementsystem.reactive.repositories;
+
+import com.yoanpetrov.studentmanagementsystem.entities.Course;
+import com.yoanpetrov.studentmanagementsystem.pagination.Cursor;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking read access to the courses and the enrollments.
+ * The rows are mapped to the entities of the main application, so both APIs return the same representation.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ReactiveCourseRepository {
+
+    private static final String COLUMNS = "c.course_id, c.name, c.description, c.max_capacity, c.number_of_students";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Course> findById(long courseId) {
+        return databaseClient.sql("select " + COLUMNS + " from courses c where c.course_id = :courseId")
+            .bind("courseId", courseId)
+            .map(ReactiveCourseRepository::mapCourse)
+            .one();
+    }
+
+    public Mono<Boolean> existsById(long courseId) {
+        return databaseClient.sql("select exists(select 1 from courses where course_id = :courseId)")
+            .bind("courseId", courseId)
+            .map(row -> row.get(0, Boolean.class))
+            .one();
+    }
+
+    public Mono<Boolean> isEnrolled(long courseId, long userId) {
+        return databaseClient.sql("""
+                select exists(select 1 from students_courses_enrollments
+                where course_id = :courseId and user_id = :userId)""")
+            .bind("courseId", courseId)
+            .bind("userId", userId)
+            .map(row -> row.get(0, Boolean.class))
+            .one();
+    }
+
+    public Flux<Course> findPageOrderedById(Cursor after, int limit) {
+        return databaseClient.sql("select " + COLUMNS + """
+                 from courses c
+                where c.course_id > :afterId
+                order by c.course_id
+                limit :limit""")
+            .bind("afterId", after.getLastId())
+            .bind("limit", limit)
+            .map(ReactiveCourseRepository::mapCourse)
+            .all();
+    }
+
+    public Flux<Course> findPageOrderedByName(Cursor after, int limit) {
+        return databaseClient.sql("select " + COLUMNS + """
+                 from courses c
+                where coalesce(c.name, '') > :afterKey
+                    or (coalesce(c.name, '') = :afterKey and c.course_id > :afterId)
+                order by coalesce(c.name, ''), c.course_id
+                limit :limit""")
+            .bind("afterKey", after.getLastKey())
+            .bind("afterId", after.getLastId())
+            .bind("limit", limit)
+            .map(ReactiveCourseRepository::mapCourse)
+            .all();
+    }
+
+    public Flux<Course> findUserPageOrderedById(long userId, Cursor after, int limit) {
+        return databaseClient.sql("select " + COLUMNS + """
+                 from students_courses_enrollments e
+                join courses c on c.course_id = e.course_id
+                where e.user_id = :userId and c.course_id > :afterId
+                order by c.course_id
+                limit :limit""")
+            .bind("userId", userId)
+            .bind("afterId", after.getLastId())
+            .bind("limit", limit)
+            .map(ReactiveCourseRepository::mapCourse)
+            .all();
+    }
+
+    public Flux<Course> findUserPageOrderedByName(long userId, Cursor after, int limit) {
+        return databaseClient.sql("select " + COLUMNS + """
+                 from students_courses_enrollments e
+                join courses c on c.course_id = e.course_id
+                where e.user_id = :userId
+                    and (coalesce(c.name, '') > :afterKey
+                        or (coalesce(c.name, '') = :afterKey and c.course_id > :afterId))
+                order by coalesce(c.name, ''), c.course_id
+                limit :limit""")
+            .bind("userId", userId)
+            .bind("afterKey", after.getLastKey())
+            .bind("afterId", after.getLastId())
+            .bind("limit", limit)
+            .map(ReactiveCourseRepository::mapCourse)
+            .all();
+    }
+
+    private static Course mapCourse(Readable row) {
+        return Course.builder()
+            .courseId(row.get("course_id", Long.class))
+            .name(row.get("name", String.class))
+            .description(row.get("description", String.class))
+            .maxCapacity(row.get("max_capacity", Integer.class))
+            .numberOfStudents(row.get("number_of_students", Integer.class))
+            .build();
+    }
+}
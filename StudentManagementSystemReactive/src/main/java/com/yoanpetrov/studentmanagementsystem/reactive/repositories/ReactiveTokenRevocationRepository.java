@@ -0,0 +1,31 @@
+package com.yoanpetrov.studentmanagementsystem.reactive.repositories;
+
+import com.yoanpetrov.studentmanagementsystem.entities.TokenRevocation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking read access to the token revocations recorded by the main application.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ReactiveTokenRevocationRepository {
+
+    private final DatabaseClient databaseClient;
+
+    /**
+     * Finds the time of the last revocation that applies to the tokens of the given username.
+     *
+     * @param username the username.
+     * @return the time of the revocation in milliseconds, or 0 if the tokens of the username were never revoked.
+     */
+    public Mono<Long> findLastRevocationOf(String username) {
+        return databaseClient.sql(TokenRevocation.LAST_REVOCATION_OF)
+            .bind("username", username)
+            .bind("allAccounts", TokenRevocation.ALL_ACCOUNTS)
+            .map(row -> row.get(0, Long.class))
+            .one();
+    }
+}
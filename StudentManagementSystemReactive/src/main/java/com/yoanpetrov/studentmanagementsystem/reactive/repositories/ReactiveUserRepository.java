@@ -0,0 +1,69 @@
+package com.yoanpetrov.studentmanagementsystem.reactive.repositories;
+
+import com.yoanpetrov.studentmanagementsystem.entities.User;
+import com.yoanpetrov.studentmanagementsystem.pagination.Cursor;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking read access to the users.
+ */
+@RequiredArgsConstructor
+@Repository
+public class ReactiveUserRepository {
+
+    private static final String COLUMNS = "u.user_id, u.first_name, u.last_name, u.email";
+
+    private final DatabaseClient databaseClient;
+
+    public Mono<Boolean> existsById(long userId) {
+        return databaseClient.sql("select exists(select 1 from users where user_id = :userId)")
+            .bind("userId", userId)
+            .map(row -> row.get(0, Boolean.class))
+            .one();
+    }
+
+    public Flux<User> findCoursePageOrderedById(long courseId, Cursor after, int limit) {
+        return databaseClient.sql("select " + COLUMNS + """
+                 from students_courses_enrollments e
+                join users u on u.user_id = e.user_id
+                where e.course_id = :courseId and u.user_id > :afterId
+                order by u.user_id
+                limit :limit""")
+            .bind("courseId", courseId)
+            .bind("afterId", after.getLastId())
+            .bind("limit", limit)
+            .map(ReactiveUserRepository::mapUser)
+            .all();
+    }
+
+    public Flux<User> findCoursePageOrderedByLastName(long courseId, Cursor after, int limit) {
+        return databaseClient.sql("select " + COLUMNS + """
+                 from students_courses_enrollments e
+                join users u on u.user_id = e.user_id
+                where e.course_id = :courseId
+                    and (coalesce(u.last_name, '') > :afterKey
+                        or (coalesce(u.last_name, '') = :afterKey and u.user_id > :afterId))
+                order by coalesce(u.last_name, ''), u.user_id
+                limit :limit""")
+            .bind("courseId", courseId)
+            .bind("afterKey", after.getLastKey())
+            .bind("afterId", after.getLastId())
+            .bind("limit", limit)
+            .map(ReactiveUserRepository::mapUser)
+            .all();
+    }
+
+    private static User mapUser(Readable row) {
+        return User.builder()
+            .userId(row.get("user_id", Long.class))
+            .firstName(row.get("first_name", String.class))
+            .lastName(row.get("last_name", String.class))
+            .email(row.get("email", String.class))
+            .build();
+    }
+}
@@ -0,0 +1,34 @@
+package com.yoanpetrov.studentmanagementsystem.reactive.security;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Takes the bearer token from the Authorization header of a request.
+ */
+@Component
+public class BearerTokenConverter implements ServerAuthenticationConverter {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    /**
+     * Converts the Authorization header into an unauthenticated token.
+     *
+     * @param exchange the request exchange.
+     * @return the token holding the JWT token as its credentials, or empty if there is no bearer token.
+     */
+    @Override
+    public Mono<Authentication> convert(ServerWebExchange exchange) {
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER_PREFIX)) {
+            return Mono.empty();
+        }
+        String jwt = authHeader.substring(BEARER_PREFIX.length());
+        return Mono.just(UsernamePasswordAuthenticationToken.unauthenticated(null, jwt));
+    }
+}
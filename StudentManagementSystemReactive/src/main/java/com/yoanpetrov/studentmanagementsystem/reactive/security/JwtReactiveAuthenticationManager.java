@@ -0,0 +1,67 @@
+package com.yoanpetrov.studentmanagementsystem.reactive.security;
+
+import com.yoanpetrov.studentmanagementsystem.security.AccountPrincipal;
+import com.yoanpetrov.studentmanagementsystem.reactive.services.ReactiveTokenRevocationService;
+import com.yoanpetrov.studentmanagementsystem.services.JwtService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Authenticates the bearer tokens issued by the main application, from their claims alone.
+ * There are no accounts to load here, so tokens that do not carry the principal claims are rejected.
+ * Revocations are read from the database, where the main application records them.
+ */
+@RequiredArgsConstructor
+@Component
+@Slf4j
+public class JwtReactiveAuthenticationManager implements ReactiveAuthenticationManager {
+
+    private final JwtService jwtService;
+    private final ReactiveTokenRevocationService tokenRevocationService;
+
+    /**
+     * Verifies the token held as the credentials of the given authentication.
+     *
+     * @param authentication the unauthenticated token, with the JWT token as its credentials.
+     * @return the authenticated {@code AccountPrincipal}, or an error with a {@code BadCredentialsException}
+     * if the token is invalid, expired, revoked or does not carry the principal claims.
+     */
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        String jwt = (String) authentication.getCredentials();
+        return Mono.fromCallable(() -> {
+                try {
+                    return jwtService.extractAllClaims(jwt);
+                } catch (JwtException e) {
+                    log.debug("Invalid JWT token. Message: {}", e.getMessage());
+                    throw new BadCredentialsException("Invalid JWT token", e);
+                }
+            })
+            .flatMap(claims -> tokenRevocationService.isRevoked(claims).map(revoked -> {
+                if (revoked) {
+                    log.debug("The JWT token of {} was revoked", claims.getSubject());
+                    throw new BadCredentialsException("The JWT token was revoked");
+                }
+                return claims;
+            }))
+            .map(this::authenticate);
+    }
+
+    private Authentication authenticate(Claims claims) {
+        AccountPrincipal principal = jwtService.extractPrincipal(claims);
+        if (principal == null || !jwtService.validateToken(claims, principal)) {
+            log.debug("The JWT token of {} does not carry the principal claims", claims.getSubject());
+            throw new BadCredentialsException("The JWT token does not carry the principal claims");
+        }
+        log.debug("Valid JWT token, creating authentication token for user {}", principal.getUsername());
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+}
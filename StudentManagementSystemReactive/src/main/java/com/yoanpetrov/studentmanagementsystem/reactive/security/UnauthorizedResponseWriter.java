@@ -0,0 +1,55 @@
+package com.yoanpetrov.studentmanagementsystem.reactive.security;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yoanpetrov.studentmanagementsystem.dto.ErrorResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Answers unauthenticated and unauthorized requests with 401 and a message, the same way the main application does.
+ */
+@RequiredArgsConstructor
+@Component
+@Slf4j
+public class UnauthorizedResponseWriter implements ServerAuthenticationEntryPoint, ServerAccessDeniedHandler {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Mono<Void> commence(ServerWebExchange exchange, AuthenticationException exception) {
+        log.debug("Unauthenticated request. Returning 401 with a message to the client.");
+        return write(exchange.getResponse());
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, AccessDeniedException exception) {
+        log.debug("AccessDeniedException handled.");
+        return write(exchange.getResponse());
+    }
+
+    private Mono<Void> write(ServerHttpResponse response) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(
+                new ErrorResponse("401", "You are not authorized to access this resource."));
+        } catch (JsonProcessingException e) {
+            return Mono.error(e);
+        }
+        response.setStatusCode(HttpStatus.UNAUTHORIZED);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        DataBuffer buffer = response.bufferFactory().wrap(json);
+        return response.writeWith(Mono.just(buffer));
+    }
+}
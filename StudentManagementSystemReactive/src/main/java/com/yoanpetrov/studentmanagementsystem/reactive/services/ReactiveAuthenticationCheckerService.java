@@ -0,0 +1,60 @@
+package com.yoanpetrov.studentmanagementsystem.reactive.services;
+
+import com.yoanpetrov.studentmanagementsystem.reactive.repositories.ReactiveCourseRepository;
+import com.yoanpetrov.studentmanagementsystem.security.AccountPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * The non-blocking counterpart of the main application's {@code AuthenticationCheckerService}.
+ * Registered under the same bean name, so the authorization expressions of both APIs are the same.
+ */
+@Service("authenticationCheckerService")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveAuthenticationCheckerService {
+
+    private final ReactiveCourseRepository courseRepository;
+
+    /**
+     * Checks whether the currently authenticated {@code UserAccount}'s {@code User} has the same id as the given userId.
+     *
+     * @param userId the id to check.
+     * @return true if they match, false otherwise.
+     */
+    public Mono<Boolean> doUserIdsMatch(Long userId) {
+        log.debug("Verifying that the user is accessing their own information. (only for non-admins)");
+        return getCurrentlyAuthenticatedUserId()
+            .map(currentUserId -> currentUserId.equals(userId))
+            .defaultIfEmpty(false);
+    }
+
+    /**
+     * Checks whether the currently authenticated {@code UserAccount}'s {@code User} is enrolled in the given course.
+     *
+     * @param courseId the id of the course.
+     * @return true if they are enrolled, false otherwise.
+     */
+    public Mono<Boolean> isUserEnrolledInCourse(Long courseId) {
+        log.debug("Verifying that the user is accessing a course that they are in.");
+        return getCurrentlyAuthenticatedUserId()
+            .flatMap(currentUserId -> courseRepository.isEnrolled(courseId, currentUserId))
+            .defaultIfEmpty(false);
+    }
+
+    /**
+     * Returns the id of the {@code User} of the currently authenticated account, taken from its {@code AccountPrincipal}.
+     *
+     * @return the id, or empty if there is no authentication or the account has no user.
+     */
+    private Mono<Long> getCurrentlyAuthenticatedUserId() {
+        return ReactiveSecurityContextHolder.getContext()
+            .map(SecurityContext::getAuthentication)
+            .filter(authentication -> authentication.getPrincipal() instanceof AccountPrincipal)
+            .mapNotNull(authentication -> ((AccountPrincipal) authentication.getPrincipal()).getUserId());
+    }
+}
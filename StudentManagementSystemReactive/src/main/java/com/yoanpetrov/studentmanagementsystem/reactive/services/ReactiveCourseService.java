@@ -0,0 +1,102 @@
+package com.yoanpetrov.studentmanagementsystem.reactive.services;
+
+import com.yoanpetrov.studentmanagementsystem.dto.CursorPage;
+import com.yoanpetrov.studentmanagementsystem.entities.Course;
+import com.yoanpetrov.studentmanagementsystem.entities.User;
+import com.yoanpetrov.studentmanagementsystem.exceptions.ResourceNotFoundException;
+import com.yoanpetrov.studentmanagementsystem.pagination.Cursor;
+import com.yoanpetrov.studentmanagementsystem.pagination.KeysetSort;
+import com.yoanpetrov.studentmanagementsystem.reactive.pagination.ReactiveKeysetPaginator;
+import com.yoanpetrov.studentmanagementsystem.reactive.repositories.ReactiveCourseRepository;
+import com.yoanpetrov.studentmanagementsystem.reactive.repositories.ReactiveUserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking course service, serving the read endpoints of the courses and their users.
+ * Every listing is paginated, so no request holds more than a single page in memory.
+ */
+@RequiredArgsConstructor
+@Service
+public class ReactiveCourseService {
+
+    private final ReactiveCourseRepository courseRepository;
+    private final ReactiveUserRepository userRepository;
+    private final ReactiveKeysetPaginator paginator;
+
+    /**
+     * Gets a single page of the existing courses in the database.
+     *
+     * @param sort   the sort of the courses.
+     * @param cursor the cursor returned with the previous page, or null for the first page.
+     * @param size   the page size, or null for the default one.
+     * @return the page, empty if no courses exist after the cursor,
+     * or an error with a {@code BadRequestException} if the cursor or size are invalid.
+     */
+    public Mono<CursorPage<Course>> getCoursesPage(KeysetSort sort, String cursor, Integer size) {
+        return paginator.paginate("courses", sort, cursor, size,
+            (after, limit) -> switch (sort) {
+                case ID -> courseRepository.findPageOrderedById(after, limit);
+                case NAME -> courseRepository.findPageOrderedByName(after, limit);
+            },
+            course -> Cursor.after(sort, course.getCourseId(), course.getName()));
+    }
+
+    /**
+     * Gets a single course from the database by its id.
+     *
+     * @param id the id of the course.
+     * @return the course, or an error with a {@code ResourceNotFoundException} if the course was not found.
+     */
+    public Mono<Course> getCourseById(long id) {
+        return courseRepository.findById(id)
+            .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException("Course not found")));
+    }
+
+    /**
+     * Gets a single page of the users enrolled in the given course.
+     *
+     * @param id     the id of the course.
+     * @param sort   the sort of the users.
+     * @param cursor the cursor returned with the previous page, or null for the first page.
+     * @param size   the page size, or null for the default one.
+     * @return the page, empty if no users exist in the course after the cursor,
+     * or an error with a {@code ResourceNotFoundException} if the course was not found,
+     * or with a {@code BadRequestException} if the cursor or size are invalid.
+     */
+    public Mono<CursorPage<User>> getCourseUsersPage(long id, KeysetSort sort, String cursor, Integer size) {
+        return courseRepository.existsById(id)
+            .flatMap(exists -> exists
+                ? paginator.paginate("courses/" + id + "/users", sort, cursor, size,
+                    (after, limit) -> switch (sort) {
+                        case ID -> userRepository.findCoursePageOrderedById(id, after, limit);
+                        case NAME -> userRepository.findCoursePageOrderedByLastName(id, after, limit);
+                    },
+                    user -> Cursor.after(sort, user.getUserId(), user.getLastName()))
+                : Mono.error(new ResourceNotFoundException("Course not found")));
+    }
+
+    /**
+     * Gets a single page of the courses that the given user is enrolled in.
+     *
+     * @param userId the id of the user.
+     * @param sort   the sort of the courses.
+     * @param cursor the cursor returned with the previous page, or null for the first page.
+     * @param size   the page size, or null for the default one.
+     * @return the page, empty if the user is not enrolled in any courses after the cursor,
+     * or an error with a {@code ResourceNotFoundException} if the user was not found,
+     * or with a {@code BadRequestException} if the cursor or size are invalid.
+     */
+    public Mono<CursorPage<Course>> getUserCoursesPage(long userId, KeysetSort sort, String cursor, Integer size) {
+        return userRepository.existsById(userId)
+            .flatMap(exists -> exists
+                ? paginator.paginate("users/" + userId + "/courses", sort, cursor, size,
+                    (after, limit) -> switch (sort) {
+                        case ID -> courseRepository.findUserPageOrderedById(userId, after, limit);
+                        case NAME -> courseRepository.findUserPageOrderedByName(userId, after, limit);
+                    },
+                    course -> Cursor.after(sort, course.getCourseId(), course.getName()))
+                : Mono.error(new ResourceNotFoundException("User not found")));
+    }
+}
@@ -0,0 +1,59 @@
+package com.yoanpetrov.studentmanagementsystem.reactive.services;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.yoanpetrov.studentmanagementsystem.reactive.repositories.ReactiveTokenRevocationRepository;
+import com.yoanpetrov.studentmanagementsystem.services.JwtService;
+import io.jsonwebtoken.Claims;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Checks the bearer tokens against the revocations the main application records in the database,
+ * so that a token revoked there is rejected here as well.
+ * The last revocation of each username is cached for {@code revocation-cache-ttl} milliseconds,
+ * which bounds how long a revoked token is still accepted here.
+ */
+@RequiredArgsConstructor
+@Service
+public class ReactiveTokenRevocationService {
+
+    private final ReactiveTokenRevocationRepository revocationRepository;
+
+    @Value("${application.security.jwt.revocation-cache-ttl:5000}")
+    private long cacheTtl;
+    @Value("${application.security.jwt.revocation-cache-size:10000}")
+    private long cacheSize;
+
+    private AsyncCache<String, Long> lastRevocations;
+
+    @PostConstruct
+    void init() {
+        lastRevocations = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfterWrite(Duration.ofMillis(cacheTtl))
+            .buildAsync();
+    }
+
+    /**
+     * Checks whether the token with the given claims was revoked.
+     *
+     * @param claims the verified claims of the token.
+     * @return true if the token was issued before or at the last revocation of its account's tokens,
+     * false otherwise.
+     */
+    public Mono<Boolean> isRevoked(Claims claims) {
+        Long issuedAt = JwtService.extractIssuedAtMillis(claims);
+        if (issuedAt == null) {
+            return Mono.just(true);
+        }
+        return Mono.fromFuture(lastRevocations.get(claims.getSubject(),
+                (username, executor) -> revocationRepository.findLastRevocationOf(username).toFuture()))
+            .map(revokedAt -> issuedAt <= revokedAt);
+    }
+}
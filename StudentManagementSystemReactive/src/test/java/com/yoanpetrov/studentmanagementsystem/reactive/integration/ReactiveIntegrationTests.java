@@ -0,0 +1,129 @@
+package com.yoanpetrov.studentmanagementsystem.reactive.integration;
+
+import com.yoanpetrov.studentmanagementsystem.entities.TokenRevocation;
+import com.yoanpetrov.studentmanagementsystem.security.AccountPrincipal;
+import com.yoanpetrov.studentmanagementsystem.security.Role;
+import com.yoanpetrov.studentmanagementsystem.services.JwtService;
+import io.restassured.RestAssured;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.Locale;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.RestAssured.with;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.equalTo;
+
+/**
+ * Runs the non-blocking API against its database, with bearer tokens issued by the shared {@code JwtService},
+ * as the main application would issue them.
+ * Revocations are not cached, so that a revocation is seen by the next request.
+ */
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "application.security.jwt.revocation-cache-ttl=0"
+)
+public class ReactiveIntegrationTests {
+
+    private static final String COURSES_URI = "api/v1/courses";
+    private static final String USERS_URI = "api/v1/users";
+
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @LocalServerPort
+    private int port;
+
+    @BeforeEach
+    void setup() {
+        RestAssured.port = port;
+    }
+
+    @Test
+    void testRequestWithoutTokenIsUnauthorized() {
+        given().get(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @Test
+    void testRequestWithInvalidTokenIsUnauthorized() {
+        with().header(HttpHeaders.AUTHORIZATION, "Bearer not-a-token")
+            .get(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @Test
+    void testGetCoursesWithToken() {
+        with().header(HttpHeaders.AUTHORIZATION, bearer(Role.ADMIN, null))
+            .get(COURSES_URI).then()
+            .assertThat()
+            .statusCode(anyOf(equalTo(HttpStatus.OK.value()), equalTo(HttpStatus.NO_CONTENT.value())));
+    }
+
+    @Test
+    void testGetCoursesWithInvalidPageSize() {
+        with().header(HttpHeaders.AUTHORIZATION, bearer(Role.ADMIN, null))
+            .queryParam("size", 0)
+            .get(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    void testGetCoursesOfNonExistingUser() {
+        with().header(HttpHeaders.AUTHORIZATION, bearer(Role.ADMIN, null))
+            .get(USERS_URI + "/" + Long.MAX_VALUE + "/courses").then()
+            .assertThat()
+            .statusCode(HttpStatus.NOT_FOUND.value());
+    }
+
+    @Test
+    void testGetCoursesOfAnotherUserAsStudent() {
+        with().header(HttpHeaders.AUTHORIZATION, bearer(Role.STUDENT, 1L))
+            .get(USERS_URI + "/2/courses").then()
+            .assertThat()
+            .statusCode(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    @Test
+    void testTokenRevokedByMainApplicationIsUnauthorized() {
+        String username = "reactive-revoked-" + System.nanoTime();
+        String token = bearer(username, Role.ADMIN, null);
+        with().header(HttpHeaders.AUTHORIZATION, token)
+            .get(COURSES_URI).then()
+            .assertThat()
+            .statusCode(anyOf(equalTo(HttpStatus.OK.value()), equalTo(HttpStatus.NO_CONTENT.value())));
+
+        // Records the revocation with the statement the main application runs
+        databaseClient.sql(TokenRevocation.UPSERT)
+            .bind("username", username)
+            .bind("revokedAt", System.currentTimeMillis())
+            .then()
+            .block();
+
+        with().header(HttpHeaders.AUTHORIZATION, token)
+            .get(COURSES_URI).then()
+            .assertThat()
+            .statusCode(HttpStatus.UNAUTHORIZED.value());
+    }
+
+    private String bearer(Role role, Long userId) {
+        return bearer("reactive-" + role.name().toLowerCase(Locale.ROOT), role, userId);
+    }
+
+    private String bearer(String username, Role role, Long userId) {
+        AccountPrincipal principal = new AccountPrincipal(1L, userId, username, null, role, role.getAuthorities());
+        return "Bearer " + jwtService.generateToken(principal);
+    }
+}